@@ -0,0 +1,33 @@
+package com.screening.profile.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class BulkScreeningConfig {
+
+    @Value("${bulk.worker-threads:2}")
+    private int workerThreads;
+
+    /**
+     * Runs whole batches; each thread drives one batch at a time.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor bulkScreeningExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workerThreads, workerThreads,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("bulk-screening-"));
+        executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "bulk.screening.executor", List.of());
+        return executor;
+    }
+}
@@ -0,0 +1,55 @@
+package com.screening.profile.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Configuration
+public class PerplexityHttpClientConfig {
+
+    @Value("${perplexity.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${perplexity.http.executor-threads:8}")
+    private int executorThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor perplexityHttpExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(executorThreads, executorThreads,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("perplexity-http-"));
+        executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "perplexity.http.executor", List.of());
+        return executor;
+    }
+
+    @Bean
+    public HttpClient perplexityHttpClient(@Qualifier("perplexityHttpExecutor") ThreadPoolExecutor perplexityHttpExecutor) {
+        // Pool size and keep-alive are JVM-wide and read once when the first JDK client is created, so they are
+        // launcher flags (-Djdk.httpclient.connectionPoolSize, -Djdk.httpclient.keepalive.timeout) rather than
+        // properties. JDK defaults: 0 (no limit) and 30 seconds.
+        log.info("Creating Perplexity HTTP client, connectTimeout={}ms, executorThreads={}, connectionPoolSize={}, keepAliveTimeout={}s",
+                connectTimeoutMs, executorThreads,
+                System.getProperty("jdk.httpclient.connectionPoolSize", "0"),
+                System.getProperty("jdk.httpclient.keepalive.timeout", "30"));
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(perplexityHttpExecutor)
+                .build();
+    }
+}
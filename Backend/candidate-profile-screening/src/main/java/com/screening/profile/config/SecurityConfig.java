@@ -1,6 +1,7 @@
 package com.screening.profile.config;
 
 import com.screening.profile.filter.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -66,12 +67,16 @@ public class SecurityConfig {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE responses finish on an async dispatch that carries no token; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // Admin authentication endpoints
                         .requestMatchers("/admins/signup", "/admins/signin").permitAll()
                         // Public job endpoints for applicants
                         .requestMatchers("GET", "/api/v1/jobs/**").permitAll()
                         .requestMatchers("POST", "/api/chatbot/message").permitAll()
                         .requestMatchers("POST", "/api/v1/apply-job").permitAll()
+                        // Kubernetes and load balancer probes carry no token; details stay for authenticated callers
+                        .requestMatchers("GET", "/actuator/health/liveness", "/actuator/health/readiness").permitAll()
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
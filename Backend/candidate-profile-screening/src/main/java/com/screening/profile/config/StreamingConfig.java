@@ -0,0 +1,30 @@
+package com.screening.profile.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class StreamingConfig {
+
+    @Value("${streaming.executor-threads:8}")
+    private int executorThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor streamingExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(executorThreads, executorThreads,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("sse-stream-"));
+        executor.allowCoreThreadTimeOut(true);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "streaming.executor", List.of());
+        return executor;
+    }
+}
@@ -6,12 +6,19 @@ import com.screening.profile.model.Interview;
 import com.screening.profile.service.interview.InterviewService;
 import com.screening.profile.util.SetInterviewerRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @RestController
 @RequestMapping("/api/v1/interview")
@@ -20,9 +27,14 @@ import java.util.List;
 public class InterviewController {
 
     private final InterviewService interviewService;
+    private final ThreadPoolExecutor streamingExecutor;
 
-    public InterviewController(InterviewService interviewService) {
+    @Value("${streaming.timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    public InterviewController(InterviewService interviewService, @Qualifier("streamingExecutor") ThreadPoolExecutor streamingExecutor) {
         this.interviewService = interviewService;
+        this.streamingExecutor = streamingExecutor;
     }
 
     @PostMapping("/{id}")
@@ -37,6 +49,50 @@ public class InterviewController {
         return ResponseEntity.ok().body(interview);
     }
 
+    @PostMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter createInterviewStreaming(@RequestBody Interview interview, @PathVariable("id") Long id) {
+        log.info("Interview controller, details received for streaming summary");
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        // A client that goes away only stops the stream; the summary is already paid for and the interview is still saved
+        AtomicBoolean clientGone = new AtomicBoolean();
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+        streamingExecutor.execute(() -> {
+            try {
+                Interview newInterview = this.interviewService.createInterviewStreaming(interview, id,
+                        delta -> send(emitter, clientGone, "summary", delta, id));
+                if (send(emitter, clientGone, "saved", newInterview.getId(), id)) {
+                    emitter.complete();
+                }
+            } catch (Exception e) {
+                log.error("Streaming interview summary failed for job application {} : {}", id, e.getMessage());
+                if (!clientGone.get()) {
+                    emitter.completeWithError(e);
+                }
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Sends one event unless the client has already gone away; returns whether the client is still connected.
+     */
+    private boolean send(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data, Long id) {
+        if (clientGone.get()) {
+            return false;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            if (!clientGone.getAndSet(true)) {
+                log.info("Interview summary client for job application {} disconnected, saving without streaming : {}", id, e.getMessage());
+            }
+            return false;
+        }
+    }
+
     @GetMapping
     public List<InterviewDTO> getAllInterviews(){
         return this.interviewService.getAllInterviews();
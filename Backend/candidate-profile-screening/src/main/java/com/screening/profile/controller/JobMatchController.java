@@ -2,21 +2,28 @@ package com.screening.profile.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.screening.profile.dto.CandidateInterviewDTO;
-import com.screening.profile.dto.CandidateProcessingDTO;
+import com.screening.profile.dto.BulkScreeningStatusDTO;
 import com.screening.profile.dto.CandidateReqDTO;
 import com.screening.profile.model.Candidate;
 import com.screening.profile.service.PerplexityService;
+import com.screening.profile.service.bulk.BulkScreeningService;
 import com.screening.profile.service.candidate.CandidateService;
+import com.screening.profile.service.profile.ResumeProfileService;
+import com.screening.profile.service.screening.ResumeDocument;
+import com.screening.profile.service.screening.ResumeDocumentReader;
 import com.screening.profile.util.enums.Status;
-import com.screening.profile.util.parser.PdfParsingUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Set;
 import com.screening.profile.service.interview.InterviewService;
 import com.screening.profile.util.SetInterviewerRequest;
 
@@ -29,26 +36,39 @@ public class JobMatchController {
     private final PerplexityService perplexityService;
     private final CandidateService candidateService;
     private final InterviewService interviewService;
+    private final BulkScreeningService bulkScreeningService;
+    private final ResumeDocumentReader resumeDocumentReader;
+    private final ResumeProfileService resumeProfileService;
+
+    @Value("${perplexity.batch.enabled:false}")
+    private boolean batchEnabled;
 
     @Autowired
-    public JobMatchController(PerplexityService perplexityService, CandidateService candidateService, InterviewService interviewService) {
+    public JobMatchController(PerplexityService perplexityService, CandidateService candidateService, InterviewService interviewService,
+                              BulkScreeningService bulkScreeningService, ResumeDocumentReader resumeDocumentReader,
+                              ResumeProfileService resumeProfileService) {
         this.perplexityService = perplexityService;
         this.candidateService = candidateService;
         this.interviewService = interviewService;
+        this.bulkScreeningService = bulkScreeningService;
+        this.resumeDocumentReader = resumeDocumentReader;
+        this.resumeProfileService = resumeProfileService;
     }
 
     @PostMapping("/apply-job")
     public ResponseEntity<?> analyze(@RequestParam("resumePdf") MultipartFile resumePdf, @RequestParam("jobId") Long jobId, @RequestParam String name,
-                                     @RequestParam String email, @RequestParam String phoneNumber, @RequestParam String dob) throws Exception {
+                                     @RequestParam String email, @RequestParam String phoneNumber, @RequestParam String dob,
+                                     @RequestParam(value = "engine", required = false) String engine) throws Exception {
         log.info("JobController, file received");
         CandidateReqDTO candidateReqDTO = new CandidateReqDTO();
         candidateReqDTO.setName(name);
         candidateReqDTO.setEmail(email);
         candidateReqDTO.setPhoneNumber(phoneNumber);
         candidateReqDTO.setDob(dob);
-        candidateReqDTO.setResumeText(PdfParsingUtil.extractText(resumePdf));
+        ResumeDocument resumeDocument = this.resumeDocumentReader.read(resumePdf);
+        candidateReqDTO.setResumeText(resumeDocument.text());
 
-        Candidate candidate = this.perplexityService.askPerplexityForPrompt(resumePdf, jobId, candidateReqDTO);
+        Candidate candidate = this.perplexityService.askPerplexityForPrompt(resumeDocument, jobId, candidateReqDTO, engine);
         if (candidate == null) {
             return ResponseEntity
                     .status(HttpStatus.CONFLICT)
@@ -120,8 +140,15 @@ public class JobMatchController {
     }
 
     @GetMapping("/all-candidates/{id}")
-    public ResponseEntity<?> getAllCandidatesByJobId(@PathVariable("id") Long id) throws JsonProcessingException {
+    public ResponseEntity<?> getAllCandidatesByJobId(@PathVariable("id") Long id,
+                                                     @RequestParam(value = "skill", required = false) List<String> skills,
+                                                     @RequestParam(value = "minYears", required = false) Double minYears) throws JsonProcessingException {
         List<CandidateInterviewDTO> candidate = this.candidateService.getCandidatesWithInterviewFeedbackByJobId(id);
+        if ((skills != null && !skills.isEmpty()) || minYears != null) {
+            Set<Long> matching = resumeProfileService.filterCandidateIds(
+                    candidate.stream().map(CandidateInterviewDTO::getId).toList(), skills, minYears);
+            candidate = candidate.stream().filter(dto -> matching.contains(dto.getId())).toList();
+        }
         if(candidate == null || candidate.isEmpty())
         {
             return ResponseEntity
@@ -132,19 +159,59 @@ public class JobMatchController {
     }
 
     @PostMapping("/bulk-upload")
-    public ResponseEntity<?> bulkUpload(@RequestParam("resumePdf") List<MultipartFile> resumePdf, @RequestParam("jobId") Long jobId) throws Exception {
+    public ResponseEntity<?> bulkUpload(@RequestParam("resumePdf") List<MultipartFile> resumePdf, @RequestParam("jobId") Long jobId,
+                                        @RequestParam(value = "batched", required = false) Boolean batched,
+                                        @RequestParam(value = "engine", required = false) String engine,
+                                        @RequestParam(value = "batchId", required = false) Long batchId) throws Exception {
 
-        long startTime = System.currentTimeMillis();
-        log.info("JobController copy, file received");
-        CandidateProcessingDTO candidate = this.perplexityService.askPerplexityAndGetParallelResponse(resumePdf, jobId);
-        if (candidate == null) {
+        log.info("JobController copy, {} files received", resumePdf.size());
+        BulkScreeningStatusDTO status = this.bulkScreeningService.submit(resumePdf, jobId,
+                batched != null ? batched : batchEnabled, engine, batchId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    @PostMapping("/bulk-upload/zip")
+    public ResponseEntity<?> bulkUploadArchive(@RequestParam("resumeZip") MultipartFile resumeZip, @RequestParam("jobId") Long jobId,
+                                               @RequestParam(value = "batched", required = false) Boolean batched,
+                                               @RequestParam(value = "engine", required = false) String engine,
+                                               @RequestParam(value = "batchId", required = false) Long batchId) throws Exception {
+
+        log.info("JobController, archive {} of {} bytes received", resumeZip.getOriginalFilename(), resumeZip.getSize());
+        BulkScreeningStatusDTO status = this.bulkScreeningService.submitArchive(resumeZip, jobId,
+                batched != null ? batched : batchEnabled, engine, batchId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    @GetMapping("/bulk-upload/{batchId}")
+    public ResponseEntity<?> bulkUploadStatus(@PathVariable("batchId") Long batchId) {
+        BulkScreeningStatusDTO status = this.bulkScreeningService.getStatus(batchId);
+        if (status == null) {
             return ResponseEntity
-                    .status(HttpStatus.CONFLICT)
-                    .body("Error in controller");
+                    .status(HttpStatus.NOT_FOUND)
+                    .body("No bulk upload found");
         }
-        long endTime = System.currentTimeMillis();
-        long timeTaken = endTime - startTime;
-        log.info("Total time taken for execution : {}", timeTaken);
-        return ResponseEntity.ok().body(candidate);
+        return ResponseEntity.status(HttpStatus.OK).body(status);
+    }
+
+    @GetMapping(value = "/bulk-upload/{batchId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> bulkUploadEvents(@PathVariable("batchId") Long batchId) {
+        SseEmitter emitter = this.bulkScreeningService.subscribe(batchId);
+        if (emitter == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body("No bulk upload found");
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
+    @PostMapping("/bulk-upload/{batchId}/retry")
+    public ResponseEntity<?> retryBulkUpload(@PathVariable("batchId") Long batchId) {
+        BulkScreeningStatusDTO status = this.bulkScreeningService.retryFailed(batchId);
+        if (status == null) {
+            return ResponseEntity
+                    .status(HttpStatus.NOT_FOUND)
+                    .body("No bulk upload found");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
     }
 }
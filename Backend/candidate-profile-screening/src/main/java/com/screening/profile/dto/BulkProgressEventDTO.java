@@ -0,0 +1,23 @@
+package com.screening.profile.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * One event of a bulk upload's progress stream, with the batch totals as they stand after it.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkProgressEventDTO {
+    private Long batchId;
+    private String event;
+    private String fileName;
+    private Double score;
+    private Long candidateId;
+    private String reason;
+    private int totalFiles;
+    private int completedFiles;
+    private int saved;
+    private int duplicates;
+    private int failed;
+}
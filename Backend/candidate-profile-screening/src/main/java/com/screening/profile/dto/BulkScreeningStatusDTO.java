@@ -0,0 +1,36 @@
+package com.screening.profile.dto;
+
+import com.screening.profile.util.enums.ScreeningBatchState;
+import com.screening.profile.util.enums.ScreeningItemState;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class BulkScreeningStatusDTO {
+    private Long batchId;
+    private Long jobId;
+    private ScreeningBatchState state;
+    private int totalFiles;
+    private int completedFiles;
+    private Map<ScreeningItemState, Long> progress;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private Long spooledBytes;
+    private Long peakHeapBytes;
+    private List<FileStatus> files;
+    private List<ScreenedCandidateDTO> processedCandidates;
+    private List<String> unProcessedCandidates;
+
+    @Data
+    public static class FileStatus {
+        private Long itemId;
+        private String fileName;
+        private String checksum;
+        private ScreeningItemState state;
+        private Long candidateId;
+        private String error;
+    }
+}
@@ -0,0 +1,23 @@
+package com.screening.profile.dto;
+
+import com.screening.profile.util.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * What a bulk upload status shows for a saved candidate, without the stored file and resume text.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScreenedCandidateDTO {
+    private Long id;
+    private String name;
+    private String email;
+    private Double score;
+    private Status status;
+    private List<String> matchedSkills;
+}
@@ -16,7 +16,9 @@ import java.util.List;
 @Table(name = "candidate")
 public class Candidate {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "candidate_id")
+    @TableGenerator(name = "candidate_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "candidate", allocationSize = 50)
     private Long id;
     private String name;
 
@@ -29,6 +31,9 @@ public class Candidate {
     private String phoneNumber;
     private String dateOfBirth;
     private Double score;
+    // Engine that produced the score; the local engine stands in when the requested one fails
+    @Column(name = "scoring_engine", length = 32)
+    private String scoringEngine;
     @Column(name = "summary", length = 1000)
     private String summary;
     @Lob
@@ -14,7 +14,9 @@ import org.hibernate.type.SqlTypes;
 public class Interview {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "interview_id")
+    @TableGenerator(name = "interview_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "interview", allocationSize = 50)
     private Integer id;
 
     @JdbcTypeCode(SqlTypes.JSON)
@@ -28,4 +28,7 @@ public class Job {
 
     @Column(nullable = false)
     private String location;
+
+    @Column(name = "scoring_engine", length = 32)
+    private String scoringEngine;
 }
\ No newline at end of file
@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class JobApplication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_application_id")
+    @TableGenerator(name = "job_application_id", table = "id_generator", pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "job_application", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
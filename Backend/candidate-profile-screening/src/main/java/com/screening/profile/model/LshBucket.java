@@ -0,0 +1,22 @@
+package com.screening.profile.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One LSH band of a resume fingerprint, filed under a job the candidate applied to.
+ */
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LshBucket {
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "band_hash", nullable = false)
+    private Long bandHash;
+}
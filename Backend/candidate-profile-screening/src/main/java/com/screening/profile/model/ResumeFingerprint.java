@@ -0,0 +1,59 @@
+package com.screening.profile.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * MinHash signature of a candidate's resume text and its LSH band hashes for each job the candidate applied to,
+ * used to find near duplicates without comparing resume texts. Goes when the candidate does.
+ */
+@Entity
+@Table(name = "resume_fingerprint")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResumeFingerprint implements Persistable<Long> {
+    @Id
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    @Column(name = "signature", nullable = false, length = 512)
+    private byte[] signature;
+
+    @Column(name = "shingles", nullable = false)
+    private int shingles;
+
+    @ElementCollection
+    @CollectionTable(name = "resume_lsh_bucket", joinColumns = @JoinColumn(name = "candidate_id"))
+    private Set<LshBucket> buckets = new HashSet<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // The id is the candidate's, so without this every save would select before inserting
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return candidateId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
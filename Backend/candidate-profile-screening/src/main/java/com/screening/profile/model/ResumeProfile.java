@@ -0,0 +1,79 @@
+package com.screening.profile.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Facts pulled out of a candidate's resume text once, when the candidate is saved, so filters and rankers can
+ * query them without reading the text again. Shares the candidate's id and goes when the candidate does.
+ */
+@Entity
+@Table(name = "resume_profile")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ResumeProfile implements Persistable<Long> {
+    @Id
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    private String email;
+
+    @Column(name = "phone_number", length = 32)
+    private String phoneNumber;
+
+    /**
+     * Stated years of experience, else the years covered by the date ranges under the experience sections.
+     */
+    @Column(name = "years_experience")
+    private Double yearsOfExperience;
+
+    /**
+     * Section headers in the order they appear, comma separated.
+     */
+    @Column(name = "sections", length = 512)
+    private String sections;
+
+    /**
+     * Lower case, with common aliases folded together, see {@code ResumeProfileExtractor#normalizeSkill}.
+     */
+    @ElementCollection
+    @CollectionTable(name = "resume_profile_skill", joinColumns = @JoinColumn(name = "candidate_id"))
+    @Column(name = "skill", length = 64)
+    private Set<String> skills = new LinkedHashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "resume_profile_institute", joinColumns = @JoinColumn(name = "candidate_id"))
+    @Column(name = "institute")
+    private Set<String> institutes = new LinkedHashSet<>();
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // The id is the candidate's, so without this every save would select before inserting
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public Long getId() {
+        return candidateId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
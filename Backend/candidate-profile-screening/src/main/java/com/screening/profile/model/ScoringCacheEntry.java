@@ -0,0 +1,30 @@
+package com.screening.profile.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scoring_cache")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScoringCacheEntry {
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "prompt_version", nullable = false, length = 32)
+    private String promptVersion;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
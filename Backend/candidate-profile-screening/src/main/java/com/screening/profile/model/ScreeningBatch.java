@@ -0,0 +1,48 @@
+package com.screening.profile.model;
+
+import com.screening.profile.util.enums.ScreeningBatchState;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "screening_batch")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScreeningBatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private boolean batched;
+
+    @Column(length = 32)
+    private String engine;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScreeningBatchState state;
+
+    @Column(name = "total_items", nullable = false)
+    private int totalItems;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "spooled_bytes")
+    private Long spooledBytes;
+
+    @Column(name = "peak_heap_bytes")
+    private Long peakHeapBytes;
+}
@@ -0,0 +1,57 @@
+package com.screening.profile.model;
+
+import com.screening.profile.util.enums.ScreeningItemState;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One uploaded file of a {@link ScreeningBatch}. The file is kept in the resume spool so a restart can pick up
+ * where it stopped, and dropped once the resume has been saved or found to be a duplicate. {@code fileData} is
+ * only set on items queued before uploads were spooled to disk.
+ */
+@Entity
+@Table(name = "screening_item")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScreeningItem {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "batch_id", nullable = false)
+    private Long batchId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Lob
+    @Column(name = "file_data", columnDefinition = "LONGBLOB")
+    private byte[] fileData;
+
+    @Column(name = "spool_path", length = 512)
+    private String spoolPath;
+
+    /**
+     * Hex SHA-256 of the file, used to recognise it when the batch is submitted again.
+     */
+    @Column(length = 64)
+    private String checksum;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScreeningItemState state;
+
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
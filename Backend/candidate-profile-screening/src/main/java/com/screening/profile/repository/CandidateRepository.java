@@ -1,19 +1,41 @@
 package com.screening.profile.repository;
 
+import com.screening.profile.dto.ScreenedCandidateDTO;
 import com.screening.profile.model.Candidate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
+
+    /**
+     * A candidate's resume text, without the stored file.
+     */
+    interface ResumeText {
+        Long getId();
+        String getResumeText();
+    }
+
+    /**
+     * What a resume profile is built from.
+     */
+    interface ProfileSource extends ResumeText {
+        String getEmail();
+        String getPhoneNumber();
+    }
+
     Optional<Candidate> findByUniqueId(String uniqueId);
 
-    @Query(value = "SELECT c.*, i.feedback_summary, " +
+    // Columns are listed rather than c.* because callers read them by position
+    @Query(value = "SELECT c.id, c.date_of_birth, c.email, c.file_data, c.matched_skills, c.name, c.phone_number, " +
+            "c.resume_text, c.score, c.status, c.summary, c.unique_id, i.feedback_summary, " +
             "i.id," +
             "i.round1_details->>'$.feedback' AS round1_feedback, " +
             "i.round2_details->>'$.feedback' AS round2_feedback, " +
@@ -38,4 +60,21 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
             @Param("jobId") Long jobId
     );
     List<Optional<Candidate>> findByEmail(String email);
+
+    @Query("SELECT new com.screening.profile.dto.ScreenedCandidateDTO(c.id, c.name, c.email, c.score, c.status, c.matchedSkills) " +
+            "FROM Candidate c WHERE c.id IN :ids ORDER BY c.id")
+    List<ScreenedCandidateDTO> findScreenedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id AS id, c.resumeText AS resumeText, c.email AS email, c.phoneNumber AS phoneNumber FROM Candidate c " +
+            "WHERE c.id > :afterId AND c.resumeText IS NOT NULL " +
+            "AND NOT EXISTS (SELECT p.candidateId FROM ResumeProfile p WHERE p.candidateId = c.id) ORDER BY c.id")
+    List<ProfileSource> findWithoutProfile(@Param("afterId") Long afterId, Pageable page);
+
+    @Query("SELECT c.id AS id, c.resumeText AS resumeText FROM Candidate c " +
+            "WHERE c.id > :afterId AND c.resumeText IS NOT NULL " +
+            "AND NOT EXISTS (SELECT f.candidateId FROM ResumeFingerprint f WHERE f.candidateId = c.id) ORDER BY c.id")
+    List<ResumeText> findWithoutFingerprint(@Param("afterId") Long afterId, Pageable page);
+
+    @Query("SELECT c.resumeText FROM Candidate c WHERE c.id = :id")
+    String findResumeTextById(@Param("id") Long id);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Integer> {
@@ -20,6 +21,12 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     @Query("SELECT c FROM Candidate c JOIN JobApplication a ON c.id = a.candidate.id WHERE a.job.id = :jobId")
     List<Candidate> findCandidatesByJobId(@Param("jobId") Long jobId);
 
+    /**
+     * {@code [candidateId, jobId]} pairs for the candidates' applications.
+     */
+    @Query("SELECT a.candidate.id, a.job.id FROM JobApplication a WHERE a.candidate.id IN :candidateIds")
+    List<Object[]> findJobIdsByCandidateIds(@Param("candidateIds") Collection<Long> candidateIds);
+
     @Modifying
     @Query("DELETE FROM JobApplication a WHERE a.job.id = :jobId")
     void deleteByJobId(@Param("jobId") Integer jobId);
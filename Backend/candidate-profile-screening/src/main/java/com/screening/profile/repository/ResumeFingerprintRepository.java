@@ -0,0 +1,27 @@
+package com.screening.profile.repository;
+
+import com.screening.profile.model.ResumeFingerprint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResumeFingerprintRepository extends JpaRepository<ResumeFingerprint, Long> {
+
+    interface Signature {
+        Long getCandidateId();
+        byte[] getSignature();
+        int getShingles();
+    }
+
+    /**
+     * Signatures of the job's candidates that share at least one of the band hashes.
+     */
+    @Query("SELECT DISTINCT f.candidateId AS candidateId, f.signature AS signature, f.shingles AS shingles FROM ResumeFingerprint f " +
+            "JOIN f.buckets b WHERE b.jobId = :jobId AND b.bandHash IN :bandHashes")
+    List<Signature> findByJobAndBands(@Param("jobId") Long jobId, @Param("bandHashes") Collection<Long> bandHashes);
+}
@@ -0,0 +1,22 @@
+package com.screening.profile.repository;
+
+import com.screening.profile.model.ResumeProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ResumeProfileRepository extends JpaRepository<ResumeProfile, Long> {
+
+    @Query("SELECT p.candidateId FROM ResumeProfile p JOIN p.skills s WHERE p.candidateId IN :candidateIds AND s IN :skills " +
+            "AND (:minYears IS NULL OR p.yearsOfExperience >= :minYears) GROUP BY p.candidateId HAVING COUNT(DISTINCT s) = :skillCount")
+    List<Long> findCandidateIdsWithSkills(@Param("candidateIds") Collection<Long> candidateIds, @Param("skills") Collection<String> skills,
+                                          @Param("skillCount") long skillCount, @Param("minYears") Double minYears);
+
+    @Query("SELECT p.candidateId FROM ResumeProfile p WHERE p.candidateId IN :candidateIds AND p.yearsOfExperience >= :minYears")
+    List<Long> findCandidateIdsWithExperience(@Param("candidateIds") Collection<Long> candidateIds, @Param("minYears") double minYears);
+}
@@ -0,0 +1,9 @@
+package com.screening.profile.repository;
+
+import com.screening.profile.model.ScoringCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoringCacheRepository extends JpaRepository<ScoringCacheEntry, String> {
+}
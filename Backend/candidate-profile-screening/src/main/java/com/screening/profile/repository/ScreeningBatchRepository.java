@@ -0,0 +1,25 @@
+package com.screening.profile.repository;
+
+import com.screening.profile.model.ScreeningBatch;
+import com.screening.profile.util.enums.ScreeningBatchState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ScreeningBatchRepository extends JpaRepository<ScreeningBatch, Long> {
+    List<ScreeningBatch> findByStateNot(ScreeningBatchState state);
+
+    /**
+     * Moves the batch to {@code state} only if it is still in {@code from}, so two callers cannot both reopen it.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScreeningBatch b SET b.state = :state, b.completedAt = NULL WHERE b.id = :id AND b.state = :from")
+    int reopen(@Param("id") Long id, @Param("from") ScreeningBatchState from, @Param("state") ScreeningBatchState state);
+}
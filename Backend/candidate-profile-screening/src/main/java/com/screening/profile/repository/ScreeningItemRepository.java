@@ -0,0 +1,83 @@
+package com.screening.profile.repository;
+
+import com.screening.profile.model.ScreeningItem;
+import com.screening.profile.util.enums.ScreeningItemState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ScreeningItemRepository extends JpaRepository<ScreeningItem, Long> {
+
+    /**
+     * Item state without the file contents.
+     */
+    interface Summary {
+        Long getId();
+        String getFileName();
+        String getChecksum();
+        ScreeningItemState getState();
+        Long getCandidateId();
+        String getError();
+    }
+
+    /**
+     * What a worker needs to pick an item up, without the file contents.
+     */
+    interface Pending {
+        Long getId();
+        String getFileName();
+        String getSpoolPath();
+    }
+
+    interface StateCount {
+        ScreeningItemState getState();
+        long getCount();
+    }
+
+    @Query("SELECT i.state AS state, COUNT(i) AS count FROM ScreeningItem i WHERE i.batchId = :batchId GROUP BY i.state")
+    List<StateCount> countByState(@Param("batchId") Long batchId);
+
+    List<Pending> findPendingByBatchIdAndStateIn(Long batchId, Collection<ScreeningItemState> states);
+
+    List<ScreeningItem> findByBatchIdAndChecksumIn(Long batchId, Collection<String> checksums);
+
+    @Query("SELECT i.spoolPath FROM ScreeningItem i WHERE i.batchId = :batchId AND i.state IN :states AND i.spoolPath IS NOT NULL")
+    List<String> findSpoolPaths(@Param("batchId") Long batchId, @Param("states") Collection<ScreeningItemState> states);
+
+    List<Summary> findByBatchIdOrderByIdAsc(Long batchId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScreeningItem i SET i.state = :state, i.candidateId = :candidateId, i.error = :error, i.updatedAt = :now WHERE i.id = :id")
+    int updateState(@Param("id") Long id, @Param("state") ScreeningItemState state, @Param("candidateId") Long candidateId,
+                    @Param("error") String error, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScreeningItem i SET i.state = :state, i.error = :error, i.updatedAt = :now WHERE i.batchId = :batchId AND i.state IN :from")
+    int updateStateWhere(@Param("batchId") Long batchId, @Param("from") Collection<ScreeningItemState> from,
+                         @Param("state") ScreeningItemState state, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * Puts failed items that still have their file back in the queue.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScreeningItem i SET i.state = :state, i.error = NULL, i.updatedAt = :now WHERE i.batchId = :batchId AND i.state = :from"
+            + " AND (i.spoolPath IS NOT NULL OR i.fileData IS NOT NULL)")
+    int requeueWithFile(@Param("batchId") Long batchId, @Param("from") ScreeningItemState from,
+                        @Param("state") ScreeningItemState state, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScreeningItem i SET i.fileData = NULL, i.spoolPath = NULL WHERE i.batchId = :batchId AND i.state IN :states")
+    int clearFileData(@Param("batchId") Long batchId, @Param("states") Collection<ScreeningItemState> states);
+}
@@ -6,273 +6,490 @@ import com.screening.profile.dto.CandidateProcessingDTO;
 import com.screening.profile.dto.CandidateReqDTO;
 import com.screening.profile.exception.ServiceException;
 import com.screening.profile.model.Candidate;
-import com.screening.profile.model.Job;
+import com.screening.profile.service.bulk.BulkScreeningListener;
+import com.screening.profile.service.bulk.ResumeSource;
 import com.screening.profile.service.candidate.CandidateService;
 import com.screening.profile.service.job.JobService;
+import com.screening.profile.service.llm.PerplexityClient;
+import com.screening.profile.service.scoring.JobScreeningContext;
+import com.screening.profile.service.scoring.PerplexityScoringEngine;
+import com.screening.profile.service.scoring.ScoringEngine;
+import com.screening.profile.service.scoring.ScoringEngineRegistry;
+import com.screening.profile.service.scoring.ScoringRequest;
+import com.screening.profile.service.scoring.ScoringResultCache;
+import com.screening.profile.service.screening.ResumeDocument;
+import com.screening.profile.service.screening.ScreeningPipeline;
+import com.screening.profile.service.screening.parser.ParsedResume;
+import com.screening.profile.service.screening.parser.ResumeParserRegistry;
 import com.screening.profile.util.enums.Status;
+import com.screening.profile.util.matcher.ScreeningResult;
+import com.screening.profile.util.matcher.ScreeningResultDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.*;
-import java.nio.charset.StandardCharsets;
+import java.net.http.HttpResponse;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static com.screening.profile.util.ExtractorHelperUtils.createUniqueId;
 import static com.screening.profile.util.ExtractorHelperUtils.formatPhoneNumber;
-import static com.screening.profile.util.parser.PdfParsingUtil.extractText;
 
 @Slf4j
 @Service
 public class PerplexityService {
 
-    @Value("${perplexity.api.key:}")
-    private String apiKey;
+    @Value("${perplexity.batch.token-budget:6000}")
+    private int batchTokenBudget;
 
-    @Value("${perplexity.base-url:https://api.perplexity.ai/chat/completions}")
-    private String API_ENDPOINT;
-
-    @Value("${perplexity.enabled:true}")
-    private boolean enabled;
+    @Value("${perplexity.batch.max-resumes:5}")
+    private int batchMaxResumes;
 
     private final CandidateService candidateService;
     private final JobService jobService;
+    private final PerplexityClient perplexityClient;
+    private final ScoringResultCache scoringResultCache;
+    private final ScoringEngineRegistry scoringEngineRegistry;
+    private final ScreeningPipeline screeningPipeline;
+    private final ResumeParserRegistry resumeParsers;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public PerplexityService(CandidateService candidateService, JobService jobService) {
+    public PerplexityService(CandidateService candidateService, JobService jobService, PerplexityClient perplexityClient,
+                             ScoringResultCache scoringResultCache, ScoringEngineRegistry scoringEngineRegistry,
+                             ScreeningPipeline screeningPipeline, ResumeParserRegistry resumeParsers) {
         this.candidateService = candidateService;
         this.jobService = jobService;
+        this.perplexityClient = perplexityClient;
+        this.scoringResultCache = scoringResultCache;
+        this.scoringEngineRegistry = scoringEngineRegistry;
+        this.screeningPipeline = screeningPipeline;
+        this.resumeParsers = resumeParsers;
     }
 
-    public Candidate askPerplexityForPrompt(MultipartFile resumeFile, Long jobId, CandidateReqDTO candidateReqDTO) throws Exception {
-        String resume = extractText(resumeFile);
+    public Candidate askPerplexityForPrompt(ResumeDocument resumeDocument, Long jobId, CandidateReqDTO candidateReqDTO) throws Exception {
+        return askPerplexityForPrompt(resumeDocument, jobId, candidateReqDTO, null);
+    }
 
-        // If disabled or no API key provided, fallback locally
-        if (!enabled || apiKey == null || apiKey.isBlank()) {
-            String fallback = makeFallbackJson(resume, jobService.getJobDescription(jobId));
-            return candidateService.extractAndSaveCandidateDetails(resumeFile, fallback, jobId, candidateReqDTO);
+    public Candidate askPerplexityForPrompt(ResumeDocument resumeDocument, Long jobId, CandidateReqDTO candidateReqDTO, String engineName) throws Exception {
+        resumeParsers.requireReadable(resumeDocument.parsed(), resumeDocument.getFileName());
+        String resume = resumeDocument.text();
+        if (resumeDocument.isPartial()) {
+            log.warn("Screening {} on a partially parsed resume ({})", resumeDocument.getFileName(), resumeDocument.truncation());
         }
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("model", "sonar-pro");
-        payload.put("max_tokens", 500);
-        payload.put("temperature", 0.7);
+        JobScreeningContext job = jobService.getScreeningContext(jobId);
+        ScoringEngine engine = scoringEngineRegistry.resolve(engineName, job.job());
+
+        Scored scored = score(engine, new ScoringRequest(resume, job, false, true));
+        return candidateService.extractAndSaveCandidateDetails(resumeDocument, scored.result(), scored.engine(), jobId, candidateReqDTO);
+    }
 
-        String jobDescriptionWithSkills = "";
-        Optional<Job> job = jobService.getJob(Math.toIntExact(jobId));
-        if(job.isPresent()){
-            jobDescriptionWithSkills = jobDescriptionWithSkills + job.get().getDescription();
-            jobDescriptionWithSkills = jobDescriptionWithSkills + " Requrired Skills : ";
-            jobDescriptionWithSkills = jobDescriptionWithSkills + job.get().getRequiredSkills();
+    /**
+     * Screens a bulk upload through the {@link ScreeningPipeline}: parse, de-duplicate, score and persist, reporting
+     * each step to the listener. Duplicates and failures end up in {@code unProcessedCandidates}.
+     */
+    public CandidateProcessingDTO screenBulk(List<? extends ResumeSource> resumes, Long jobId, boolean batched, String engineName,
+                                             BulkScreeningListener listener) {
+        JobScreeningContext job = jobService.getScreeningContext(jobId);
+        ScoringEngine engine = scoringEngineRegistry.resolve(engineName, job.job());
+        PerplexityScoringEngine batchEngine = batched && engine instanceof PerplexityScoringEngine perplexityEngine ? perplexityEngine : null;
+
+        BulkRun run = new BulkRun(resumes.size(), jobId, job, engine, batchEngine, listener);
+        try {
+            run.start(resumes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Bulk screening was interrupted", "INTERNAL_ERROR");
         }
-        List<Map<String, String>> messages = new ArrayList<>();
-        messages.add(Map.of(
-                "role", "system",
-                "content", "You are an AI job screening assistant. Compare the following resume and job description, and output a JSON with fields matchedSkills (list), missingSkills (list), score (double 0-100 with 2 digit precision in percentage), and summary (one line). In the summary also include the years of work experience matching with the job description and the work experience mentioned in resume which will not be explicitly mentioned"
-        ));
-        messages.add(Map.of(
-                "role", "user",
-                "content", String.format("Resume: %s\nJob Description: %s", resume, jobDescriptionWithSkills)
-        ));
-        payload.put("messages", messages);
 
-        String requestBody = objectMapper.writeValueAsString(payload);
+        log.info("CandidateList size : {}", run.candidates.size());
+        CandidateProcessingDTO candidateProcessingDTO = new CandidateProcessingDTO();
+        candidateProcessingDTO.setProcessedCandidates(new ArrayList<>(run.candidates));
+        candidateProcessingDTO.setUnProcessedCandidates(new ArrayList<>(run.unprocessed));
+        return candidateProcessingDTO;
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(API_ENDPOINT))
-                .header("Authorization", "Bearer " + apiKey)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
-                .build();
+    /**
+     * State of one bulk upload as its resumes move through the pipeline stages. Every resume ends in exactly one
+     * of {@link #saved}, {@link #duplicate} or {@link #fail}, which is what {@link #start} waits for. They count
+     * the resume off and only log a listener that throws, so a failing listener can neither leave the run waiting
+     * forever nor stop the loops over a batch or chunk before the resumes after it.
+     */
+    private final class BulkRun {
+
+        private final Long jobId;
+        private final JobScreeningContext job;
+        private final String jobDescriptionWithSkills;
+        private final ScoringEngine engine;
+        private final PerplexityScoringEngine batchEngine;
+        private final String cacheVersion;
+        private final BulkScreeningListener listener;
+        private final ScreeningPipeline.BatchingWriter<ScoredResume> writer;
+
+        private final CountDownLatch remaining;
+        private final AtomicInteger awaitingDedupe;
+        private final List<Candidate> candidates = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> unprocessed = Collections.synchronizedList(new ArrayList<>());
+
+        private final Object batchLock = new Object();
+        private List<BulkResume> openBatch = new ArrayList<>();
+        private int openBatchTokens;
+
+        private BulkRun(int size, Long jobId, JobScreeningContext job, ScoringEngine engine,
+                        PerplexityScoringEngine batchEngine, BulkScreeningListener listener) {
+            this.jobId = jobId;
+            this.job = job;
+            this.jobDescriptionWithSkills = job.jobDescriptionWithSkills();
+            this.engine = engine;
+            this.batchEngine = batchEngine;
+            this.cacheVersion = batchEngine != null ? batchEngine.getBatchCacheVersion() : null;
+            this.listener = listener;
+            this.writer = screeningPipeline.newWriter(this::persist);
+            this.remaining = new CountDownLatch(size);
+            this.awaitingDedupe = new AtomicInteger(size);
+        }
 
-        try {
-            HttpResponse<String> response = HttpClient.newHttpClient()
-                    .send(request, HttpResponse.BodyHandlers.ofString());
+        private void start(List<? extends ResumeSource> resumes) throws InterruptedException {
+            for (ResumeSource source : resumes) {
+                screeningPipeline.execute(ScreeningPipeline.Stage.PARSE, () -> parse(source));
+            }
+            remaining.await();
+        }
 
-            if (response.statusCode() != 200) {
-                // Graceful fallback on 4xx/5xx
-                String fallback = makeFallbackJson(resume, jobDescriptionWithSkills);
-                return candidateService.extractAndSaveCandidateDetails(resumeFile, fallback, jobId, candidateReqDTO);
+        private void parse(ResumeSource source) {
+            try {
+                listener.onParsing(source);
+                String text = PerplexityService.this.parse(source);
+                screeningPipeline.execute(ScreeningPipeline.Stage.DEDUPE, () -> dedupe(source, text));
+            } catch (Exception e) {
+                fail(source, e);
+                leftDedupe();
             }
+        }
 
-            JsonNode rootNode = objectMapper.readTree(response.body());
-            JsonNode choices = rootNode.get("choices");
-            if (choices != null && choices.isArray() && !choices.isEmpty()) {
-                JsonNode firstChoice = choices.get(0);
-                JsonNode message = firstChoice.get("message");
-                if (message != null) {
-                    JsonNode contentNode = message.get("content");
-                    if (contentNode != null) {
-                        Candidate candidate = candidateService.extractAndSaveCandidateDetails(resumeFile, contentNode.asText(), jobId, candidateReqDTO);
-                        if (Optional.ofNullable(candidate).isEmpty()){
-                            return null;
-                        }
-                        return candidate;
+        private void dedupe(ResumeSource source, String text) {
+            try {
+                if (candidateService.isDuplicate(text, jobId)) {
+                    duplicate(source);
+                    return;
+                }
+                listener.onParsed(source);
+                if (batchEngine == null) {
+                    BulkResume resume = new BulkResume(source, text, null);
+                    screeningPipeline.execute(ScreeningPipeline.Stage.SCORE, () -> scoreOne(resume));
+                    return;
+                }
+                BulkResume resume = new BulkResume(source, text, scoringResultCache.key(text, jobDescriptionWithSkills, cacheVersion));
+                Optional<ScreeningResult> cached = cachedResult(resume.cacheKey(), true);
+                if (cached.isPresent()) {
+                    scored(resume, new Scored(cached.get(), batchEngine.getName()));
+                } else {
+                    addToBatch(resume);
+                }
+            } catch (Exception e) {
+                fail(source, e);
+            } finally {
+                leftDedupe();
+            }
+        }
+
+        /**
+         * Packs resumes into one batched prompt until the token budget or the resume cap is reached.
+         */
+        private void addToBatch(BulkResume resume) throws InterruptedException {
+            int budget = batchTokenBudget - PerplexityScoringEngine.batchOverheadTokens(jobDescriptionWithSkills);
+            int tokens = batchEngine.promptTokens(resume.text());
+            List<BulkResume> full = null;
+            synchronized (batchLock) {
+                if (!openBatch.isEmpty() && (openBatchTokens + tokens > budget || openBatch.size() >= batchMaxResumes)) {
+                    full = openBatch;
+                    openBatch = new ArrayList<>();
+                    openBatchTokens = 0;
+                }
+                openBatch.add(resume);
+                openBatchTokens += tokens;
+            }
+            submitBatch(full);
+        }
+
+        private void leftDedupe() {
+            if (awaitingDedupe.decrementAndGet() > 0 || batchEngine == null) {
+                return;
+            }
+            // Every resume has been through the duplicate check, send what is left in the open batch
+            List<BulkResume> last;
+            synchronized (batchLock) {
+                last = openBatch;
+                openBatch = new ArrayList<>();
+                openBatchTokens = 0;
+            }
+            try {
+                submitBatch(last);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                last.forEach(resume -> fail(resume.source(), e));
+            }
+        }
+
+        private void submitBatch(List<BulkResume> batch) throws InterruptedException {
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            if (batch.size() == 1) {
+                screeningPipeline.execute(ScreeningPipeline.Stage.SCORE, () -> scoreOne(batch.get(0)));
+            } else {
+                screeningPipeline.execute(ScreeningPipeline.Stage.SCORE, () -> scoreBatch(batch));
+            }
+        }
+
+        private void scoreBatch(List<BulkResume> batch) {
+            ScreeningResult[] results = new ScreeningResult[batch.size()];
+            try {
+                results = batchEngine.scoreBatch(batch.stream().map(BulkResume::text).toList(), jobDescriptionWithSkills);
+            } catch (ServiceException e) {
+                if (isOutOfCapacity(e)) {
+                    // Scoring them one by one would only wait on the same limiter or breaker again
+                    batch.forEach(resume -> fail(resume.source(), e));
+                    return;
+                }
+                log.error("Batched scoring failed, resumes will be scored individually : {}", e.getMessage());
+            } catch (Exception e) {
+                log.error("Batched scoring failed, resumes will be scored individually : {}", e.getMessage());
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    if (results[i] != null) {
+                        scoringResultCache.put(batch.get(i).cacheKey(), cacheVersion, ScreeningResultDecoder.encode(results[i]));
+                        scored(batch.get(i), new Scored(results[i], batchEngine.getName()));
+                    } else {
+                        // Missing or malformed in the batched answer, score this one on its own
+                        scoreOne(batch.get(i));
                     }
+                } catch (RuntimeException e) {
+                    fail(batch.get(i).source(), e);
                 }
             }
-            throw new ServiceException(String.valueOf(response.statusCode()),"Invalid response structure from Perplexity API");
-        } catch (Exception ex) {
-            // Network/auth errors -> fallback
-            String fallback = makeFallbackJson(resume, jobDescriptionWithSkills);
-            return candidateService.extractAndSaveCandidateDetails(resumeFile, fallback, jobId, candidateReqDTO);
+        }
+
+        private void scoreOne(BulkResume resume) {
+            try {
+                scored(resume, score(engine, new ScoringRequest(resume.text(), job, true, false)));
+            } catch (Exception e) {
+                fail(resume.source(), e);
+            }
+        }
+
+        /**
+         * Hands the result to the writer, or fails the resume if that or the listener throws, so it is still
+         * counted off.
+         */
+        private void scored(BulkResume resume, Scored result) {
+            try {
+                listener.onScored(resume.source(), result.result());
+                writer.add(new ScoredResume(resume, result));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(resume.source(), e);
+            } catch (RuntimeException e) {
+                fail(resume.source(), e);
+            }
+        }
+
+        /**
+         * Writes the whole chunk in one transaction. If that fails, the rows are retried one by one so a single
+         * bad resume only fails itself.
+         */
+        private void persist(List<ScoredResume> chunk) {
+            List<Candidate> built = new ArrayList<>(chunk.size());
+            List<ScoredResume> buildable = new ArrayList<>(chunk.size());
+            for (ScoredResume scored : chunk) {
+                try {
+                    built.add(buildBulkCandidate(scored.resume().source(), scored.resume().text(), scored.result().result(),
+                            scored.result().engine()));
+                    buildable.add(scored);
+                } catch (Exception e) {
+                    fail(scored.resume().source(), e);
+                }
+            }
+            if (built.isEmpty()) {
+                return;
+            }
+            boolean savedTogether = false;
+            try {
+                candidateService.saveScreenedCandidates(built, jobId);
+                savedTogether = true;
+            } catch (Exception e) {
+                log.warn("Saving {} screened candidates together failed, saving them one at a time : {}", built.size(), e.getMessage());
+            }
+            if (savedTogether) {
+                // Outside the try: the rows are committed, so a failing callback must not save them again
+                for (int i = 0; i < built.size(); i++) {
+                    saved(buildable.get(i).resume().source(), built.get(i));
+                }
+                return;
+            }
+            for (int i = 0; i < built.size(); i++) {
+                Candidate candidate = built.get(i);
+                candidate.setId(null);
+                try {
+                    candidateService.saveScreenedCandidates(List.of(candidate), jobId);
+                } catch (Exception e) {
+                    fail(buildable.get(i).resume().source(), e);
+                    continue;
+                }
+                saved(buildable.get(i).resume().source(), candidate);
+            }
+        }
+
+        private void saved(ResumeSource source, Candidate candidate) {
+            candidates.add(candidate);
+            try {
+                listener.onSaved(source, candidate);
+            } catch (RuntimeException e) {
+                listenerFailed("onSaved", source, e);
+            } finally {
+                remaining.countDown();
+            }
+        }
+
+        private void duplicate(ResumeSource source) {
+            log.info("Duplicate candidate!");
+            unprocessed.add(source.getFileName());
+            try {
+                listener.onDuplicate(source, "Duplicate candidate for this job");
+            } catch (RuntimeException e) {
+                listenerFailed("onDuplicate", source, e);
+            } finally {
+                remaining.countDown();
+            }
+        }
+
+        private void fail(ResumeSource source, Exception e) {
+            log.error("Got an error while screening {} : {}", source.getFileName(), e.getMessage());
+            unprocessed.add(source.getFileName());
+            try {
+                listener.onFailed(source, e.getMessage());
+            } catch (RuntimeException listenerError) {
+                listenerFailed("onFailed", source, listenerError);
+            } finally {
+                remaining.countDown();
+            }
+        }
+
+        private void listenerFailed(String callback, ResumeSource source, RuntimeException e) {
+            log.error("Bulk screening listener {} failed for {} : {}", callback, source.getFileName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Scores with the given engine, consulting the result cache for engines that allow it, and falls back to
+     * the local engine when the chosen engine fails or answers with something that does not decode. Running out
+     * of LLM capacity (limiter deadline, open breaker, throttling) is not a failure of the engine and is thrown,
+     * so a bulk resume fails as retryable instead of being ranked by a different engine than the rest.
+     */
+    private Scored score(ScoringEngine engine, ScoringRequest request) throws IOException, InterruptedException {
+        String cacheVersion = engine.getCacheVersion(request.includeContactDetails());
+        String cacheKey = null;
+        if (cacheVersion != null) {
+            cacheKey = scoringResultCache.key(request.resumeText(), request.jobDescriptionWithSkills(), cacheVersion);
+            Optional<ScreeningResult> cached = cachedResult(cacheKey, request.includeContactDetails());
+            if (cached.isPresent()) {
+                return new Scored(cached.get(), engine.getName());
+            }
+        }
+        try {
+            ScreeningResult result = ScreeningResultDecoder.decode(engine.score(request), request.includeContactDetails());
+            if (cacheKey != null) {
+                scoringResultCache.put(cacheKey, cacheVersion, ScreeningResultDecoder.encode(result));
+            }
+            return new Scored(result, engine.getName());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            ScoringEngine fallback = scoringEngineRegistry.fallback();
+            if (fallback == engine || (e instanceof ServiceException serviceException && isOutOfCapacity(serviceException))) {
+                throw e;
+            }
+            log.warn("Scoring engine {} failed ({}), using {}", engine.getName(), e.getMessage(), fallback.getName());
+            return new Scored(ScreeningResultDecoder.decode(fallback.score(request), request.includeContactDetails()), fallback.getName());
         }
     }
 
-    public CandidateProcessingDTO askPerplexityAndGetParallelResponse(List<MultipartFile> resumeFile, Long jobId){
+    private static boolean isOutOfCapacity(ServiceException e) {
+        return "LLM_RATE_LIMITED".equals(e.getErrorCode()) || "LLM_CIRCUIT_OPEN".equals(e.getErrorCode()) || "429".equals(e.getErrorCode());
+    }
 
-        int poolSize = Math.min(resumeFile.size(), 20);
-        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
-        List<String> duplicateList = Collections.synchronizedList(new ArrayList<>());
+    private Optional<ScreeningResult> cachedResult(String cacheKey, boolean requireContactDetails) {
+        Optional<String> cached = scoringResultCache.get(cacheKey);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
         try {
-            List<CompletableFuture<Candidate>> futures = resumeFile.stream()
-                    .map(resumes -> CompletableFuture.supplyAsync(() -> {
-
-                        int activeThreadsInside = Thread.activeCount();
-                        log.info("Active threads inside : {}", activeThreadsInside);
-                        try {
-
-                            String resume = extractText(resumes);
-                            if (candidateService.isDuplicate(resume, jobId)) {
-                                log.info("Duplicate candidate!");
-                                duplicateList.add(resumes.getOriginalFilename());
-                                return null;
-                            }
-                            Map<String, Object> payload = new HashMap<>();
-                            payload.put("model", "sonar-pro");
-                            payload.put("max_tokens", 500);
-                            payload.put("temperature", 0.7);
-
-                            String jobDescriptionWithSkills = "";
-                            Optional<Job> job = jobService.getJob(Math.toIntExact(jobId));
-                            if (job.isPresent()) {
-                                jobDescriptionWithSkills = jobDescriptionWithSkills + job.get().getDescription();
-                                jobDescriptionWithSkills = jobDescriptionWithSkills + " Requrired Skills : ";
-                                jobDescriptionWithSkills = jobDescriptionWithSkills + job.get().getRequiredSkills();
-                            }
-                            List<Map<String, String>> messages = new ArrayList<>();
-                            messages.add(Map.of(
-                                    "role", "system",
-                                    "content", "You are an AI job screening assistant. Compare the following resume with the job description provided, and output a JSON with fields matchedSkills (list), missingSkills (list), score (double 0-100 with 2 digit precision in percentage),name, email, phoneNumber and summary (one line). You must output ONLY a valid JSON object. Do not include explanations, Markdown, or code fences. In the summary also include the years of work experience that matches with the job description."
-                            ));
-                            messages.add(Map.of(
-                                    "role", "user",
-                                    "content", String.format("Resume: %s\nJob Description: %s", resume, jobDescriptionWithSkills)
-                            ));
-                            payload.put("messages", messages);
-
-                            String requestBody = objectMapper.writeValueAsString(payload);
-                            HttpRequest request = HttpRequest.newBuilder()
-                                    .uri(URI.create(API_ENDPOINT))
-                                    .header("Authorization", "Bearer " + apiKey)
-                                    .header("Content-Type", "application/json")
-                                    .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
-                                    .build();
-                            HttpResponse<String> response = HttpClient.newHttpClient()
-                                    .sendAsync(request, HttpResponse.BodyHandlers.ofString())
-                                    .join();
-
-                            JsonNode rootNode = objectMapper.readTree(response.body());
-                            JsonNode choices = rootNode.get("choices");
-                            if (choices != null && choices.isArray() && !choices.isEmpty()) {
-                                JsonNode firstChoice = choices.get(0);
-                                JsonNode message = firstChoice.get("message");
-                                if (message != null) {
-                                    JsonNode contentNode = message.get("content");
-                                    if (contentNode != null) {
-                                        String text = contentNode.asText();
-                                        JsonNode node = objectMapper.readTree(text);
-                                        String summary = objectMapper.readTree(text).get("summary").asText();
-                                        Double score = objectMapper.readTree(text).get("score").asDouble();
-                                        List<String> matchedSkills = objectMapper.readerForListOf(String.class).readValue(objectMapper.readTree(text).get("matchedSkills"));
-
-                                        String name = node.get("name").asText();
-                                        String email = node.get("email").asText();
-                                        String phoneNumber = node.get("phoneNumber").asText();
-                                        log.info("Name : {}, Email : {}, Phone Number : {}", name, email, phoneNumber);
-
-                                        String uniqueId = createUniqueId(name, email, phoneNumber);
-                                        Candidate candidateBatch = new Candidate();
-                                        candidateBatch.setName(name);
-                                        candidateBatch.setPhoneNumber(formatPhoneNumber(phoneNumber));
-                                        candidateBatch.setEmail(email);
-                                        candidateBatch.setStatus(Status.IN_PROCESS);
-                                        candidateBatch.setDateOfBirth(null);
-                                        candidateBatch.setFileData(resumes.getBytes());
-                                        candidateBatch.setMatchedSkills(matchedSkills);
-                                        candidateBatch.setScore(score);
-                                        candidateBatch.setSummary(summary);
-                                        candidateBatch.setResumeText(resume);
-                                        candidateBatch.setUniqueId(uniqueId);
-                                        candidateService.saveCandidate(candidateBatch);
-                                        candidateService.saveJobApplicationAndInterview(jobId,candidateBatch);
-                                        return candidateBatch;
-                                    }
-                                }
-                            }
-                            return null;
-                        } catch (Exception e) {
-
-                            duplicateList.add(resumes.getOriginalFilename());
-                            log.error("Got an error.....!!!!! : {}", e.getMessage());
-                            return null;
-                        }
-                    }, executor))
-                    .toList();
-
-            List<Candidate> candidateList = futures.stream()
-                    .map(CompletableFuture::join)
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            log.info("CandidateList size : {}", candidateList.size());
-            CandidateProcessingDTO candidateProcessingDTO = new CandidateProcessingDTO();
-            candidateProcessingDTO.setProcessedCandidates(candidateList);
-            candidateProcessingDTO.setUnProcessedCandidates(duplicateList);
-            return candidateProcessingDTO;
-        } finally {
-            executor.shutdown();
+            return Optional.of(ScreeningResultDecoder.decode(cached.get(), requireContactDetails));
+        } catch (ServiceException e) {
+            log.warn("Ignoring cached screening result that no longer decodes : {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
+    /**
+     * A document cut short by the extraction limits is still screened on the pages that were read; one without
+     * readable text is failed here rather than scored.
+     */
+    private String parse(ResumeSource source) throws IOException {
+        ParsedResume parsed = resumeParsers.parse(source);
+        resumeParsers.requireReadable(parsed, source.getFileName());
+        if (parsed.isPartial()) {
+            log.warn("Screening {} on a partially parsed resume ({})", source.getFileName(), parsed.truncation());
+        }
+        return parsed.text();
+    }
 
-    public String askPerplexityForSummarizedFeedback(String feedback) throws IOException, InterruptedException {
+    private Candidate buildBulkCandidate(ResumeSource resumes, String resume, ScreeningResult result, String engine) throws IOException {
+        String name = result.name();
+        String email = result.email();
+        String phoneNumber = result.phoneNumber();
+        log.info("Name : {}, Email : {}, Phone Number : {}", name, email, phoneNumber);
+
+        String uniqueId = createUniqueId(name, email, phoneNumber);
+        Candidate candidateBatch = new Candidate();
+        candidateBatch.setName(name);
+        candidateBatch.setPhoneNumber(formatPhoneNumber(phoneNumber));
+        candidateBatch.setEmail(email);
+        candidateBatch.setStatus(Status.IN_PROCESS);
+        candidateBatch.setDateOfBirth(null);
+        candidateBatch.setFileData(resumes.getBytes());
+        candidateBatch.setMatchedSkills(result.matchedSkills());
+        candidateBatch.setScore(result.score());
+        candidateBatch.setScoringEngine(engine);
+        candidateBatch.setSummary(result.summary());
+        candidateBatch.setResumeText(resume);
+        candidateBatch.setUniqueId(uniqueId);
+        return candidateBatch;
+    }
 
-        String summaryFeedback = "";
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("model", "sonar-pro");
-        payload.put("max_tokens", 500);
-        payload.put("temperature", 0.7);
+    private record BulkResume(ResumeSource source, String text, String cacheKey) {
+    }
 
-        List<Map<String, String>> messages = new ArrayList<>();
-        messages.add(Map.of(
-                "role", "system",
-                "content", "Summarize the given paragraph in about 200 words if possible, it is a feedback for a candidate which has been interviewed, this summary will be read by the talent acquisition team. Return the response in a simple string format."
-        ));
-        messages.add(Map.of(
-                "role", "user",
-                "content", feedback
-        ));
-        payload.put("messages", messages);
+    /**
+     * A result with the name of the engine that produced it, which is not always the one asked for.
+     */
+    private record Scored(ScreeningResult result, String engine) {
+    }
 
-        String requestBody = objectMapper.writeValueAsString(payload);
+    private record ScoredResume(BulkResume resume, Scored result) {
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(API_ENDPOINT))
-                .header("Authorization", "Bearer " + apiKey)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
-                .build();
+    public String askPerplexityForSummarizedFeedback(String feedback) throws IOException, InterruptedException {
+
+        String summaryFeedback = "";
+        String requestBody = objectMapper.writeValueAsString(buildFeedbackPayload(feedback));
 
         try {
-            HttpResponse<String> response = HttpClient.newHttpClient()
-                    .send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = perplexityClient.send(requestBody);
             JsonNode rootNode = objectMapper.readTree(response.body());
             JsonNode choices = rootNode.get("choices");
             if (choices != null && choices.isArray() && !choices.isEmpty()) {
@@ -285,17 +502,54 @@ public class PerplexityService {
                     }
                 }
             }
+        } catch (ServiceException e) {
+            throw e;
         } catch (Exception e){
             throw new ServiceException(e.getMessage(), e.getLocalizedMessage());
         }
         return summaryFeedback;
     }
 
-    private String makeFallbackJson(String resume, String jobDescription) {
-        // Very basic heuristic; you can enhance later
-        int score = Math.min(10, Math.max(0, (resume.length() + jobDescription.length()) / 2000));
-        String summary = "Local evaluation used due to unavailable AI service. Score is heuristic.";
-        return String.format(Locale.ROOT, "{\"summary\":\"%s\",\"score\":%d,\"matchedSkills\":[\"Basic Skills\"],\"missingSkills\":[\"Advanced Skills\"]}", summary, score);
+    public String streamSummarizedFeedback(String feedback, Consumer<String> onDelta) {
+        StringBuilder summaryFeedback = new StringBuilder();
+        try {
+            Map<String, Object> payload = buildFeedbackPayload(feedback);
+            payload.put("stream", true);
+            perplexityClient.stream(objectMapper.writeValueAsString(payload), data -> {
+                try {
+                    JsonNode delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+                    if (delta.isTextual() && !delta.asText().isEmpty()) {
+                        summaryFeedback.append(delta.asText());
+                        onDelta.accept(delta.asText());
+                    }
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable stream chunk : {}", e.getMessage());
+                }
+            });
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServiceException(e.getMessage(), e.getLocalizedMessage());
+        }
+        return summaryFeedback.toString();
     }
-}
 
+    private Map<String, Object> buildFeedbackPayload(String feedback) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("model", "sonar-pro");
+        payload.put("max_tokens", 500);
+        payload.put("temperature", 0.7);
+
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of(
+                "role", "system",
+                "content", "Summarize the given paragraph in about 200 words if possible, it is a feedback for a candidate which has been interviewed, this summary will be read by the talent acquisition team. Return the response in a simple string format."
+        ));
+        messages.add(Map.of(
+                "role", "user",
+                "content", feedback
+        ));
+        payload.put("messages", messages);
+        return payload;
+    }
+}
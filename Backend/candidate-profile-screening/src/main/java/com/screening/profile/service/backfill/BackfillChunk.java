@@ -0,0 +1,12 @@
+package com.screening.profile.service.backfill;
+
+/**
+ * @param count  rows written in the chunk
+ * @param lastId the last id the chunk looked at, {@code null} when there was nothing left
+ */
+public record BackfillChunk(int count, Long lastId) {
+
+    public static BackfillChunk done() {
+        return new BackfillChunk(0, null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.screening.profile.service.backfill;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fills in data derived from rows saved before it existed. Runs once the application is ready, on a thread of
+ * its own, one chunk of {@code chunkSize} rows per call to {@link #backfill} with {@code pauseMs} between chunks
+ * so it does not crowd out requests. Rows are walked in id order and a chunk only selects rows that still need
+ * the data, so a restart picks up where the last run stopped. A failing chunk is retried with exponential backoff;
+ * after three failures in a row its ids are logged and it is skipped, to be tried again on the next start.
+ * <p>
+ * Counts the rows written in the {@code counterName} counter.
+ */
+@Slf4j
+public abstract class ChunkedBackfill {
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+    private static final long MIN_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final String name;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final Counter backfilled;
+    private final ExecutorService executor;
+
+    protected ChunkedBackfill(String name, MeterRegistry meterRegistry, String counterName, boolean enabled, int chunkSize, long pauseMs) {
+        this.name = name;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = pauseMs;
+        this.backfilled = meterRegistry.counter(counterName);
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory(name + "-backfill-"));
+    }
+
+    /**
+     * Handles up to {@code chunkSize} rows with an id above {@code afterId}.
+     */
+    protected abstract BackfillChunk backfill(long afterId, int chunkSize);
+
+    /**
+     * The last id of the rows {@link #backfill} would handle after {@code afterId}, {@code null} when there are none.
+     */
+    protected abstract Long lastId(long afterId, int chunkSize);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            executor.execute(this::run);
+        }
+    }
+
+    private void run() {
+        long afterId = 0;
+        int total = 0;
+        int failures = 0;
+        int skipped = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                BackfillChunk chunk = backfill(afterId, chunkSize);
+                failures = 0;
+                if (chunk.lastId() == null) {
+                    break;
+                }
+                afterId = chunk.lastId();
+                total += chunk.count();
+                backfilled.increment(chunk.count());
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                failures++;
+                log.warn("{} backfill chunk after id {} failed ({} in a row) : {}", name, afterId, failures, e.getMessage());
+                if (failures >= MAX_CONSECUTIVE_FAILURES) {
+                    try {
+                        Long lastId = lastId(afterId, chunkSize);
+                        if (lastId == null) {
+                            break;
+                        }
+                        log.error("{} backfill skipped the chunk of ids {} to {} after {} failures", name, afterId + 1, lastId, failures);
+                        afterId = lastId;
+                        failures = 0;
+                        skipped++;
+                        continue;
+                    } catch (RuntimeException lookup) {
+                        // Most likely the database is down, keep backing off and try the chunk again
+                        log.warn("{} backfill could not look up the chunk after id {} : {}", name, afterId, lookup.getMessage());
+                    }
+                }
+                sleep(backoffMs(failures));
+            }
+        }
+        if (total > 0 || skipped > 0) {
+            log.info("{} backfill wrote {} rows, skipped {} failed chunks", name, total, skipped);
+        }
+    }
+
+    private long backoffMs(int failures) {
+        long base = Math.max(pauseMs, MIN_BACKOFF_MS);
+        return Math.min(MAX_BACKOFF_MS, base << Math.min(failures - 1, 16));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,261 @@
+package com.screening.profile.service.bulk;
+
+import com.screening.profile.dto.BulkProgressEventDTO;
+import com.screening.profile.model.Candidate;
+import com.screening.profile.util.enums.ScreeningItemState;
+import com.screening.profile.util.matcher.ScreeningResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans bulk screening progress out to server-sent event subscribers. Subscribers hold an async response and no
+ * thread while they wait; events are queued per subscriber and written on the streaming executor, so pipeline
+ * workers never block on a slow client. A subscriber whose queue fills up is closed and can reconnect for a
+ * fresh snapshot.
+ */
+@Slf4j
+@Component
+public class BulkProgressBroadcaster {
+
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor streamingExecutor;
+    private final AtomicInteger open = new AtomicInteger();
+    private final long timeoutMs;
+    private final int queueCapacity;
+
+    public BulkProgressBroadcaster(@Qualifier("streamingExecutor") ThreadPoolExecutor streamingExecutor, MeterRegistry meterRegistry,
+                                   @Value("${bulk.progress.timeout-ms:1800000}") long timeoutMs,
+                                   @Value("${bulk.progress.queue-capacity:1000}") int queueCapacity) {
+        this.streamingExecutor = streamingExecutor;
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        meterRegistry.gauge("bulk.progress.subscribers", open);
+    }
+
+    /**
+     * Opens a stream for the batch, starting with a {@code snapshot} event. {@code counts} are the item states
+     * stored for the batch, used when it is not running in this instance; a finished batch gets its snapshot and
+     * a {@code completed} event and is closed.
+     */
+    public SseEmitter subscribe(Long batchId, int totalFiles, Map<ScreeningItemState, Long> counts, boolean finished) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(batchId, emitter);
+        Progress progress = running.get(batchId);
+        if (progress == null) {
+            progress = new Progress(batchId, totalFiles, counts);
+        }
+        subscriber.offer("snapshot", progress.event(null, null));
+        if (finished && !running.containsKey(batchId)) {
+            subscriber.offer("completed", progress.event(null, null));
+            subscriber.close();
+            return emitter;
+        }
+        boolean wasRunning = running.containsKey(batchId);
+        subscribers.computeIfAbsent(batchId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+        open.incrementAndGet();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        if (wasRunning && !running.containsKey(batchId)) {
+            // The batch finished while this subscriber was being registered and its completion may have missed it
+            remove(subscriber);
+            subscriber.offer("completed", progress.event(null, null));
+            subscriber.close();
+        }
+        return emitter;
+    }
+
+    /**
+     * Starts counting for a batch that is about to be screened and returns the listener that publishes its events.
+     */
+    public BulkScreeningListener start(Long batchId, int totalFiles, Map<ScreeningItemState, Long> counts) {
+        Progress progress = new Progress(batchId, totalFiles, counts);
+        running.put(batchId, progress);
+        return progress;
+    }
+
+    /**
+     * Sends {@code completed} with the final totals and closes the batch's streams.
+     */
+    public void finish(Long batchId, int totalFiles, Map<ScreeningItemState, Long> counts) {
+        running.remove(batchId);
+        Set<Subscriber> listening = subscribers.remove(batchId);
+        if (listening == null) {
+            return;
+        }
+        BulkProgressEventDTO event = new Progress(batchId, totalFiles, counts).event(null, null);
+        for (Subscriber subscriber : listening) {
+            subscriber.offer("completed", event);
+            subscriber.close();
+        }
+    }
+
+    private void publish(Long batchId, String name, BulkProgressEventDTO event) {
+        Set<Subscriber> listening = subscribers.get(batchId);
+        if (listening != null) {
+            listening.forEach(subscriber -> subscriber.offer(name, event));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        Set<Subscriber> listening = subscribers.get(subscriber.batchId);
+        if (listening != null && listening.remove(subscriber)) {
+            open.decrementAndGet();
+        }
+    }
+
+    /**
+     * Running totals of one batch, fed by the pipeline's callbacks.
+     */
+    private final class Progress implements BulkScreeningListener {
+
+        private final Long batchId;
+        private final int totalFiles;
+        private final AtomicInteger saved = new AtomicInteger();
+        private final AtomicInteger duplicates = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private Progress(Long batchId, int totalFiles, Map<ScreeningItemState, Long> counts) {
+            this.batchId = batchId;
+            this.totalFiles = totalFiles;
+            saved.set(counts.getOrDefault(ScreeningItemState.SAVED, 0L).intValue());
+            duplicates.set(counts.getOrDefault(ScreeningItemState.DUPLICATE, 0L).intValue());
+            failed.set(counts.getOrDefault(ScreeningItemState.FAILED, 0L).intValue());
+        }
+
+        @Override
+        public void onParsed(ResumeSource source) {
+            publish(batchId, "parsed", event(source, null));
+        }
+
+        @Override
+        public void onScored(ResumeSource source, ScreeningResult result) {
+            BulkProgressEventDTO event = event(source, null);
+            event.setScore(result.score());
+            publish(batchId, "scored", event);
+        }
+
+        @Override
+        public void onSaved(ResumeSource source, Candidate candidate) {
+            saved.incrementAndGet();
+            BulkProgressEventDTO event = event(source, null);
+            event.setCandidateId(candidate.getId());
+            event.setScore(candidate.getScore());
+            publish(batchId, "saved", event);
+        }
+
+        @Override
+        public void onDuplicate(ResumeSource source, String reason) {
+            duplicates.incrementAndGet();
+            publish(batchId, "duplicate", event(source, reason));
+        }
+
+        @Override
+        public void onFailed(ResumeSource source, String reason) {
+            failed.incrementAndGet();
+            publish(batchId, "failed", event(source, reason));
+        }
+
+        private BulkProgressEventDTO event(ResumeSource source, String reason) {
+            BulkProgressEventDTO event = new BulkProgressEventDTO();
+            event.setBatchId(batchId);
+            event.setFileName(source != null ? source.getFileName() : null);
+            event.setReason(reason);
+            event.setTotalFiles(totalFiles);
+            event.setSaved(saved.get());
+            event.setDuplicates(duplicates.get());
+            event.setFailed(failed.get());
+            event.setCompletedFiles(event.getSaved() + event.getDuplicates() + event.getFailed());
+            return event;
+        }
+    }
+
+    /**
+     * One open stream. Events are written in order by at most one streaming thread at a time.
+     */
+    private final class Subscriber {
+
+        private final Long batchId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(Long batchId, SseEmitter emitter) {
+            this.batchId = batchId;
+            this.emitter = emitter;
+        }
+
+        private void offer(String name, BulkProgressEventDTO event) {
+            if (closing) {
+                return;
+            }
+            if (!pending.offer(SseEmitter.event().name(name).data(event))) {
+                log.warn("Closing a lagging progress stream for bulk screening batch {}", batchId);
+                pending.clear();
+                closing = true;
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void close() {
+            closing = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    streamingExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                while ((next = pending.poll()) != null) {
+                    try {
+                        emitter.send(next);
+                    } catch (IOException | IllegalStateException e) {
+                        // The client went away
+                        pending.clear();
+                        remove(this);
+                        scheduled.set(false);
+                        return;
+                    }
+                }
+                if (closing) {
+                    emitter.complete();
+                }
+                scheduled.set(false);
+                // An offer may have raced with the flag being cleared
+                if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.screening.profile.service.bulk;
+
+import com.screening.profile.model.Candidate;
+import com.screening.profile.util.matcher.ScreeningResult;
+
+/**
+ * Per-file progress callbacks from bulk screening. They are called from worker threads, possibly for several
+ * files at once.
+ */
+public interface BulkScreeningListener {
+
+    BulkScreeningListener NONE = new BulkScreeningListener() {
+    };
+
+    default void onParsing(ResumeSource source) {
+    }
+
+    default void onParsed(ResumeSource source) {
+    }
+
+    default void onScored(ResumeSource source, ScreeningResult result) {
+    }
+
+    default void onSaved(ResumeSource source, Candidate candidate) {
+    }
+
+    default void onDuplicate(ResumeSource source, String reason) {
+    }
+
+    default void onFailed(ResumeSource source, String reason) {
+    }
+
+    /**
+     * A listener that passes every callback to this one and then to {@code next}.
+     */
+    default BulkScreeningListener andThen(BulkScreeningListener next) {
+        BulkScreeningListener first = this;
+        return new BulkScreeningListener() {
+            @Override
+            public void onParsing(ResumeSource source) {
+                first.onParsing(source);
+                next.onParsing(source);
+            }
+
+            @Override
+            public void onParsed(ResumeSource source) {
+                first.onParsed(source);
+                next.onParsed(source);
+            }
+
+            @Override
+            public void onScored(ResumeSource source, ScreeningResult result) {
+                first.onScored(source, result);
+                next.onScored(source, result);
+            }
+
+            @Override
+            public void onSaved(ResumeSource source, Candidate candidate) {
+                first.onSaved(source, candidate);
+                next.onSaved(source, candidate);
+            }
+
+            @Override
+            public void onDuplicate(ResumeSource source, String reason) {
+                first.onDuplicate(source, reason);
+                next.onDuplicate(source, reason);
+            }
+
+            @Override
+            public void onFailed(ResumeSource source, String reason) {
+                first.onFailed(source, reason);
+                next.onFailed(source, reason);
+            }
+        };
+    }
+}
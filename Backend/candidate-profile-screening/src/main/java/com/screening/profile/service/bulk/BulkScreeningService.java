@@ -0,0 +1,27 @@
+package com.screening.profile.service.bulk;
+
+import com.screening.profile.dto.BulkScreeningStatusDTO;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface BulkScreeningService {
+    /**
+     * @param batchId an earlier batch to add the files to, or null for a new batch
+     */
+    BulkScreeningStatusDTO submit(List<MultipartFile> files, Long jobId, boolean batched, String engine, Long batchId) throws IOException;
+    BulkScreeningStatusDTO submitArchive(MultipartFile archive, Long jobId, boolean batched, String engine, Long batchId) throws IOException;
+    BulkScreeningStatusDTO getStatus(Long batchId);
+
+    /**
+     * Queues the batch's failed files again; returns null if there is no such batch.
+     */
+    BulkScreeningStatusDTO retryFailed(Long batchId);
+
+    /**
+     * Opens a server-sent event stream of the batch's per-file progress; returns null if there is no such batch.
+     */
+    SseEmitter subscribe(Long batchId);
+}
@@ -0,0 +1,206 @@
+package com.screening.profile.service.bulk;
+
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.service.screening.parser.ResumeFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streams the resumes out of a ZIP upload one entry at a time, writing each into a spool directory. Entries are
+ * kept when their content sniffs as a {@link ResumeFormat} we parse, whatever their name. Nothing
+ * is held in memory beyond a copy buffer. The declared entry sizes are not trusted: the reader counts what it
+ * actually inflates and gives up on the whole archive once it has too many entries, inflates too much in total
+ * or inflates far more than it reads, which is what a zip bomb looks like.
+ */
+@Slf4j
+@Component
+public class ResumeArchiveReader {
+
+    /**
+     * An entry of the archive. {@code path} is null when the entry was rejected, with the reason in {@code rejection}.
+     */
+    public record Entry(String fileName, Path path, long size, String checksum, String rejection) {
+
+        public static Entry rejected(String fileName, long size, String rejection) {
+            return new Entry(fileName, null, size, null, rejection);
+        }
+    }
+
+    // Below this the ratio check is skipped, small archives of tiny files compress unusually well
+    private static final long RATIO_CHECK_FLOOR = 1024 * 1024;
+
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final long maxTotalBytes;
+    private final int maxCompressionRatio;
+
+    public ResumeArchiveReader(@Value("${bulk.zip.max-entries:1000}") int maxEntries,
+                               @Value("${bulk.zip.max-entry-size:20MB}") DataSize maxEntrySize,
+                               @Value("${bulk.zip.max-total-size:1GB}") DataSize maxTotalSize,
+                               @Value("${bulk.zip.max-compression-ratio:100}") int maxCompressionRatio) {
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.maxTotalBytes = maxTotalSize.toBytes();
+        this.maxCompressionRatio = maxCompressionRatio;
+    }
+
+    public List<Entry> spool(InputStream archive, Path directory) throws IOException {
+        CountingInputStream compressed = new CountingInputStream(archive);
+        List<Entry> entries = new ArrayList<>();
+        Inflated inflated = new Inflated(compressed);
+        byte[] buffer = new byte[8192];
+        byte[] head = new byte[ResumeFormat.SNIFF_BYTES];
+        try (ZipInputStream zip = new ZipInputStream(compressed)) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zip.getNextEntry()) != null) {
+                String fileName = baseName(zipEntry.getName());
+                if (zipEntry.isDirectory() || isMetadata(zipEntry.getName(), fileName)) {
+                    inflated.drain(zip, buffer);
+                    continue;
+                }
+                if (entries.size() >= maxEntries) {
+                    throw new ServiceException("Archive has more than " + maxEntries + " files", "ARCHIVE_LIMIT_EXCEEDED");
+                }
+                Path target = directory.resolve(entries.size() + ".resume");
+                MessageDigest digest = ResumeSpool.newDigest();
+                long size = inflated.copy(zip, target, buffer, digest, head);
+                if (size > maxEntryBytes) {
+                    Files.deleteIfExists(target);
+                    entries.add(Entry.rejected(fileName, size, "File is larger than " + maxEntryBytes + " bytes"));
+                } else if (ResumeFormat.sniff(head, (int) Math.min(size, head.length)) == null) {
+                    Files.deleteIfExists(target);
+                    entries.add(Entry.rejected(fileName, size, "Not a PDF, DOCX or plain text file"));
+                } else {
+                    entries.add(new Entry(fileName, target, size, HexFormat.of().formatHex(digest.digest()), null));
+                }
+            }
+        } catch (ZipException e) {
+            throw new ServiceException("Not a readable ZIP archive : " + e.getMessage(), "INVALID_ARCHIVE");
+        }
+        if (entries.isEmpty()) {
+            throw new ServiceException("No resumes found in the archive", "INVALID_ARCHIVE");
+        }
+        log.info("Read {} entries from archive, {} bytes inflated from {} bytes", entries.size(), inflated.total, compressed.count);
+        return entries;
+    }
+
+    private static String baseName(String name) {
+        String normalized = name.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * Folders and resource forks that archivers on macOS add next to the real files.
+     */
+    private static boolean isMetadata(String name, String fileName) {
+        return name.startsWith("__MACOSX/") || fileName.startsWith(".") || fileName.isEmpty();
+    }
+
+    /**
+     * Bytes inflated across the whole archive, checked against the limits as they are read.
+     */
+    private final class Inflated {
+
+        private final CountingInputStream compressed;
+        private long total;
+
+        private Inflated(CountingInputStream compressed) {
+            this.compressed = compressed;
+        }
+
+        /**
+         * Copies the current entry to the file, stopping the copy once it passes the per-entry limit, and keeps its
+         * first bytes in {@code head}. Returns the bytes copied, which is over the limit for an entry that was cut short.
+         */
+        private long copy(ZipInputStream zip, Path target, byte[] buffer, MessageDigest digest, byte[] head) throws IOException {
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(target)) {
+                int read;
+                while ((read = zip.read(buffer)) > 0) {
+                    count(read);
+                    size += read;
+                    if (size > maxEntryBytes) {
+                        drain(zip, buffer);
+                        return size;
+                    }
+                    if (size - read < head.length) {
+                        System.arraycopy(buffer, 0, head, (int) (size - read), (int) Math.min(read, head.length - (size - read)));
+                    }
+                    out.write(buffer, 0, read);
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Skips the rest of an entry through the same checks; {@code closeEntry} would inflate it unchecked.
+         */
+        private void drain(ZipInputStream zip, byte[] buffer) throws IOException {
+            int read;
+            while ((read = zip.read(buffer)) > 0) {
+                count(read);
+            }
+        }
+
+        private void count(int read) {
+            total += read;
+            if (total > maxTotalBytes) {
+                throw new ServiceException("Archive inflates to more than " + maxTotalBytes + " bytes", "ARCHIVE_LIMIT_EXCEEDED");
+            }
+            if (total > RATIO_CHECK_FLOOR && total > (long) maxCompressionRatio * Math.max(1, compressed.count)) {
+                throw new ServiceException("Archive compression ratio is above " + maxCompressionRatio, "ARCHIVE_LIMIT_EXCEEDED");
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.screening.profile.service.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A resume file waiting to be screened, wherever its bytes currently live.
+ */
+public interface ResumeSource {
+
+    String getFileName();
+
+    byte[] getBytes() throws IOException;
+
+    InputStream openStream() throws IOException;
+
+    static ResumeSource of(String fileName, byte[] data) {
+        return new InMemory(fileName, data);
+    }
+
+    static ResumeSource spooled(String fileName, Path path) {
+        return new Spooled(fileName, path);
+    }
+
+    /**
+     * A resume spooled to disk; its bytes are only read when something asks for them.
+     */
+    record Spooled(String fileName, Path path) implements ResumeSource {
+
+        @Override
+        public String getFileName() {
+            return fileName;
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("Spooled resume is too large : " + path);
+                }
+                ByteBuffer buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep reading until the buffer is full or the file ends
+                }
+                return buffer.array();
+            }
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+    }
+
+    record InMemory(String fileName, byte[] data) implements ResumeSource {
+
+        @Override
+        public String getFileName() {
+            return fileName;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return data;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(data);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.screening.profile.service.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Keeps uploaded resumes on disk while their batch is screened. Multipart parts are moved into the spool rather
+ * than read into memory, and the spool outlives restarts so unfinished batches can be resumed from it.
+ */
+@Slf4j
+@Component
+public class ResumeSpool {
+
+    private final Path root;
+
+    public ResumeSpool(@Value("${bulk.spool.dir:${java.io.tmpdir}/resume-spool}") String dir) throws IOException {
+        this.root = Files.createDirectories(Paths.get(dir)).toAbsolutePath();
+        log.info("Spooling bulk uploads to {}", root);
+    }
+
+    public Path newBatchDirectory() throws IOException {
+        return Files.createDirectory(root.resolve("batch-" + UUID.randomUUID()));
+    }
+
+    /**
+     * Moves the part into the directory; Tomcat renames its temp file when the part was already written to disk.
+     */
+    public Path spool(MultipartFile file, Path directory, int index) throws IOException {
+        Path target = directory.resolve(index + ".resume");
+        file.transferTo(target);
+        return target;
+    }
+
+    public Path spool(byte[] data, Path directory, String name) throws IOException {
+        return Files.write(directory.resolve(name + ".resume"), data);
+    }
+
+    /**
+     * Hex SHA-256 of a spooled file.
+     */
+    public static String checksum(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public void delete(String path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Path file = Paths.get(path);
+            Files.deleteIfExists(file);
+            deleteIfEmpty(file.getParent());
+        } catch (IOException e) {
+            log.warn("Could not delete spooled resume {} : {}", path, e.getMessage());
+        }
+    }
+
+    public void deleteDirectory(Path directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete spool directory {} : {}", directory, e.getMessage());
+        }
+    }
+
+    private void deleteIfEmpty(Path directory) throws IOException {
+        if (directory == null || !directory.startsWith(root) || directory.equals(root)) {
+            return;
+        }
+        try (var entries = Files.list(directory)) {
+            if (entries.findAny().isPresent()) {
+                return;
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+}
@@ -0,0 +1,506 @@
+package com.screening.profile.service.bulk.impl;
+
+import com.screening.profile.dto.BulkScreeningStatusDTO;
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.model.Candidate;
+import com.screening.profile.model.ScreeningBatch;
+import com.screening.profile.model.ScreeningItem;
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.repository.ScreeningBatchRepository;
+import com.screening.profile.repository.ScreeningItemRepository;
+import com.screening.profile.service.PerplexityService;
+import com.screening.profile.service.bulk.BulkProgressBroadcaster;
+import com.screening.profile.service.bulk.BulkScreeningListener;
+import com.screening.profile.service.bulk.BulkScreeningService;
+import com.screening.profile.service.bulk.ResumeArchiveReader;
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.bulk.ResumeSpool;
+import com.screening.profile.service.job.JobService;
+import com.screening.profile.service.scoring.ScoringEngineRegistry;
+import com.screening.profile.util.enums.ScreeningBatchState;
+import com.screening.profile.util.enums.ScreeningItemState;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bulk uploads are stored as a batch of items and answered straight away; a background worker then screens
+ * the items and records each file's state, so callers poll for progress instead of holding the request open.
+ * Unfinished batches are picked up again on startup.
+ * <p>
+ * Uploaded files are moved into the {@link ResumeSpool} and never held in memory as a whole batch; workers parse
+ * from the spooled file and only read its bytes when the candidate is written. Each batch records the bytes it
+ * spooled and the peak heap seen while it ran, also published as {@code bulk.screening.spooled.bytes} and
+ * {@code bulk.screening.heap.peak}.
+ * <p>
+ * Every file is identified by its SHA-256. Submitting files again with the {@code batchId} of an earlier batch
+ * only queues the ones that are new or failed last time; files the batch already saved or found to be duplicates
+ * are dropped before any parsing or scoring. {@link #retryFailed} re-queues the failed files still in the spool.
+ */
+@Slf4j
+@Service
+public class BulkScreeningServiceImpl implements BulkScreeningService {
+
+    private static final Set<ScreeningItemState> UNFINISHED = EnumSet.of(ScreeningItemState.QUEUED, ScreeningItemState.PARSING, ScreeningItemState.SCORING);
+
+    private final ScreeningBatchRepository screeningBatchRepository;
+    private final ScreeningItemRepository screeningItemRepository;
+    private final CandidateRepository candidateRepository;
+    private final PerplexityService perplexityService;
+    private final JobService jobService;
+    private final ScoringEngineRegistry scoringEngineRegistry;
+    private final ThreadPoolExecutor bulkScreeningExecutor;
+    private final ResumeSpool resumeSpool;
+    private final ResumeArchiveReader resumeArchiveReader;
+    private final BulkProgressBroadcaster progressBroadcaster;
+    private final HeapPeakSampler heapPeakSampler;
+    private final DistributionSummary spooledBytes;
+    private final DistributionSummary heapPeak;
+
+    public BulkScreeningServiceImpl(ScreeningBatchRepository screeningBatchRepository, ScreeningItemRepository screeningItemRepository,
+                                    CandidateRepository candidateRepository, PerplexityService perplexityService, JobService jobService,
+                                    ScoringEngineRegistry scoringEngineRegistry,
+                                    @Qualifier("bulkScreeningExecutor") ThreadPoolExecutor bulkScreeningExecutor,
+                                    ResumeSpool resumeSpool, ResumeArchiveReader resumeArchiveReader,
+                                    BulkProgressBroadcaster progressBroadcaster, MeterRegistry meterRegistry,
+                                    @Value("${bulk.heap-sample-ms:250}") long heapSampleMs) {
+        this.screeningBatchRepository = screeningBatchRepository;
+        this.screeningItemRepository = screeningItemRepository;
+        this.candidateRepository = candidateRepository;
+        this.perplexityService = perplexityService;
+        this.jobService = jobService;
+        this.scoringEngineRegistry = scoringEngineRegistry;
+        this.bulkScreeningExecutor = bulkScreeningExecutor;
+        this.resumeSpool = resumeSpool;
+        this.resumeArchiveReader = resumeArchiveReader;
+        this.progressBroadcaster = progressBroadcaster;
+        this.heapPeakSampler = new HeapPeakSampler(heapSampleMs);
+        this.spooledBytes = DistributionSummary.builder("bulk.screening.spooled.bytes").baseUnit("bytes").register(meterRegistry);
+        this.heapPeak = DistributionSummary.builder("bulk.screening.heap.peak").baseUnit("bytes").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heapPeakSampler.shutdown();
+    }
+
+    @Override
+    public BulkScreeningStatusDTO submit(List<MultipartFile> files, Long jobId, boolean batched, String engine, Long batchId) throws IOException {
+        // Reject an unknown engine now rather than failing every item later
+        scoringEngineRegistry.resolve(engine, jobService.getScreeningContext(jobId).job());
+
+        Path directory = resumeSpool.newBatchDirectory();
+        List<ResumeArchiveReader.Entry> entries = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                Path path = resumeSpool.spool(file, directory, entries.size());
+                entries.add(new ResumeArchiveReader.Entry(file.getOriginalFilename(), path, file.getSize(),
+                        ResumeSpool.checksum(path), null));
+            }
+        } catch (IOException | RuntimeException e) {
+            resumeSpool.deleteDirectory(directory);
+            throw e;
+        }
+        return queue(entries, jobId, batched, engine, batchId);
+    }
+
+    @Override
+    public BulkScreeningStatusDTO submitArchive(MultipartFile archive, Long jobId, boolean batched, String engine, Long batchId) throws IOException {
+        scoringEngineRegistry.resolve(engine, jobService.getScreeningContext(jobId).job());
+
+        Path directory = resumeSpool.newBatchDirectory();
+        List<ResumeArchiveReader.Entry> entries;
+        try (InputStream in = archive.getInputStream()) {
+            entries = resumeArchiveReader.spool(in, directory);
+        } catch (IOException | RuntimeException e) {
+            resumeSpool.deleteDirectory(directory);
+            throw e;
+        }
+        log.info("Archive {} holds {} files", archive.getOriginalFilename(), entries.size());
+        return queue(entries, jobId, batched, engine, batchId);
+    }
+
+    @Override
+    public BulkScreeningStatusDTO retryFailed(Long batchId) {
+        if (screeningBatchRepository.findById(batchId).isEmpty()) {
+            return null;
+        }
+        reopen(batchId);
+        int retried = screeningItemRepository.requeueWithFile(batchId, ScreeningItemState.FAILED, ScreeningItemState.QUEUED, LocalDateTime.now());
+        log.info("Retrying {} failed files of bulk screening batch {}", retried, batchId);
+        dispatch(batchId);
+        return getStatus(batchId);
+    }
+
+    /**
+     * Stores the batch and its items for files already in the spool and hands it to a worker. Entries the upload
+     * rejected are stored as failed items so they show up with the rest.
+     */
+    private BulkScreeningStatusDTO queue(List<ResumeArchiveReader.Entry> entries, Long jobId, boolean batched, String engine, Long batchId) {
+        if (batchId != null) {
+            return resubmit(batchId, jobId, entries);
+        }
+        long totalBytes = entries.stream().mapToLong(ResumeArchiveReader.Entry::size).sum();
+        LocalDateTime now = LocalDateTime.now();
+        ScreeningBatch batch = new ScreeningBatch();
+        batch.setJobId(jobId);
+        batch.setBatched(batched);
+        batch.setEngine(engine);
+        batch.setState(ScreeningBatchState.QUEUED);
+        batch.setTotalItems(entries.size());
+        batch.setCreatedAt(now);
+        batch.setSpooledBytes(totalBytes);
+        screeningBatchRepository.save(batch);
+        spooledBytes.record(totalBytes);
+
+        List<ScreeningItem> items = new ArrayList<>(entries.size());
+        Map<String, String> uploaded = new HashMap<>();
+        for (ResumeArchiveReader.Entry entry : entries) {
+            items.add(newItem(batch.getId(), entry, uploaded, now));
+        }
+        screeningItemRepository.saveAll(items);
+        log.info("Queued bulk screening batch {} with {} files ({} bytes spooled) for job {}", batch.getId(), entries.size(), totalBytes, jobId);
+
+        dispatch(batch.getId());
+        return getStatus(batch.getId());
+    }
+
+    /**
+     * Adds the files to an earlier batch: known files that failed are queued again with the new copy, known files
+     * that completed are skipped, and unknown files become new items.
+     */
+    private BulkScreeningStatusDTO resubmit(Long batchId, Long jobId, List<ResumeArchiveReader.Entry> entries) {
+        ScreeningBatch batch = screeningBatchRepository.findById(batchId).orElse(null);
+        if (batch == null || !batch.getJobId().equals(jobId)) {
+            entries.forEach(this::discard);
+            throw batch == null
+                    ? new ServiceException("No bulk upload found", "BATCH_NOT_FOUND")
+                    : new ServiceException("Bulk upload " + batchId + " belongs to another job", "INVALID_BATCH");
+        }
+        try {
+            reopen(batchId);
+        } catch (ServiceException e) {
+            entries.forEach(this::discard);
+            throw e;
+        }
+
+        try {
+            List<String> checksums = entries.stream().map(ResumeArchiveReader.Entry::checksum).filter(Objects::nonNull).toList();
+            Map<String, ScreeningItem> known = new HashMap<>();
+            for (ScreeningItem item : screeningItemRepository.findByBatchIdAndChecksumIn(batchId, checksums)) {
+                known.putIfAbsent(item.getChecksum(), item);
+            }
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, String> uploaded = new HashMap<>();
+            List<ScreeningItem> changed = new ArrayList<>();
+            int added = 0;
+            int retried = 0;
+            int skipped = 0;
+            long bytes = 0;
+            for (ResumeArchiveReader.Entry entry : entries) {
+                ScreeningItem item = entry.checksum() == null ? null : known.get(entry.checksum());
+                if (item == null) {
+                    changed.add(newItem(batchId, entry, uploaded, now));
+                    added++;
+                    bytes += entry.path() != null ? entry.size() : 0;
+                } else if (item.getState() == ScreeningItemState.FAILED && !uploaded.containsKey(entry.checksum())) {
+                    uploaded.put(entry.checksum(), entry.fileName());
+                    if (item.getSpoolPath() != null && !item.getSpoolPath().equals(entry.path().toString())) {
+                        resumeSpool.delete(item.getSpoolPath());
+                    }
+                    item.setSpoolPath(entry.path().toString());
+                    item.setFileData(null);
+                    item.setState(ScreeningItemState.QUEUED);
+                    item.setError(null);
+                    item.setUpdatedAt(now);
+                    changed.add(item);
+                    retried++;
+                    bytes += entry.size();
+                } else {
+                    discard(entry);
+                    skipped++;
+                }
+            }
+            screeningItemRepository.saveAll(changed);
+
+            batch.setState(ScreeningBatchState.QUEUED);
+            batch.setCompletedAt(null);
+            batch.setTotalItems(batch.getTotalItems() + added);
+            batch.setSpooledBytes(Objects.requireNonNullElse(batch.getSpooledBytes(), 0L) + bytes);
+            screeningBatchRepository.save(batch);
+            spooledBytes.record(bytes);
+            log.info("Resubmitted bulk screening batch {}: {} new, {} retried, {} already done", batchId, added, retried, skipped);
+        } finally {
+            dispatch(batchId);
+        }
+        return getStatus(batchId);
+    }
+
+    private void reopen(Long batchId) {
+        if (screeningBatchRepository.reopen(batchId, ScreeningBatchState.COMPLETED, ScreeningBatchState.QUEUED) == 0) {
+            throw new ServiceException("Bulk upload " + batchId + " is still being screened", "BATCH_IN_PROGRESS");
+        }
+    }
+
+    /**
+     * A new item for the entry; a second copy of a file already in this upload is recorded as a duplicate.
+     */
+    private ScreeningItem newItem(Long batchId, ResumeArchiveReader.Entry entry, Map<String, String> uploaded, LocalDateTime now) {
+        ScreeningItem item = new ScreeningItem();
+        item.setBatchId(batchId);
+        item.setFileName(entry.fileName());
+        item.setChecksum(entry.checksum());
+        item.setUpdatedAt(now);
+        if (entry.path() == null) {
+            item.setState(ScreeningItemState.FAILED);
+            item.setError(entry.rejection());
+            return item;
+        }
+        String first = uploaded.putIfAbsent(entry.checksum(), entry.fileName());
+        if (first != null) {
+            discard(entry);
+            item.setState(ScreeningItemState.DUPLICATE);
+            item.setError("Same file as " + first);
+            return item;
+        }
+        item.setSpoolPath(entry.path().toString());
+        item.setState(ScreeningItemState.QUEUED);
+        return item;
+    }
+
+    private void discard(ResumeArchiveReader.Entry entry) {
+        if (entry.path() != null) {
+            resumeSpool.delete(entry.path().toString());
+        }
+    }
+
+    @Override
+    public BulkScreeningStatusDTO getStatus(Long batchId) {
+        ScreeningBatch batch = screeningBatchRepository.findById(batchId).orElse(null);
+        if (batch == null) {
+            return null;
+        }
+        Map<ScreeningItemState, Long> progress = new EnumMap<>(ScreeningItemState.class);
+        List<BulkScreeningStatusDTO.FileStatus> files = new ArrayList<>();
+        List<Long> candidateIds = new ArrayList<>();
+        List<String> unProcessed = new ArrayList<>();
+        for (ScreeningItemRepository.Summary item : screeningItemRepository.findByBatchIdOrderByIdAsc(batchId)) {
+            progress.merge(item.getState(), 1L, Long::sum);
+            BulkScreeningStatusDTO.FileStatus file = new BulkScreeningStatusDTO.FileStatus();
+            file.setItemId(item.getId());
+            file.setFileName(item.getFileName());
+            file.setChecksum(item.getChecksum());
+            file.setState(item.getState());
+            file.setCandidateId(item.getCandidateId());
+            file.setError(item.getError());
+            files.add(file);
+            if (item.getState() == ScreeningItemState.SAVED && item.getCandidateId() != null) {
+                candidateIds.add(item.getCandidateId());
+            } else if (item.getState() == ScreeningItemState.DUPLICATE || item.getState() == ScreeningItemState.FAILED) {
+                unProcessed.add(item.getFileName());
+            }
+        }
+
+        BulkScreeningStatusDTO status = new BulkScreeningStatusDTO();
+        status.setBatchId(batch.getId());
+        status.setJobId(batch.getJobId());
+        status.setState(batch.getState());
+        status.setTotalFiles(batch.getTotalItems());
+        status.setCompletedFiles((int) files.stream().filter(file -> file.getState().isTerminal()).count());
+        status.setProgress(progress);
+        status.setCreatedAt(batch.getCreatedAt());
+        status.setCompletedAt(batch.getCompletedAt());
+        status.setSpooledBytes(batch.getSpooledBytes());
+        status.setPeakHeapBytes(batch.getPeakHeapBytes());
+        status.setFiles(files);
+        status.setProcessedCandidates(candidateIds.isEmpty() ? List.of() : candidateRepository.findScreenedByIdIn(candidateIds));
+        status.setUnProcessedCandidates(unProcessed);
+        return status;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long batchId) {
+        ScreeningBatch batch = screeningBatchRepository.findById(batchId).orElse(null);
+        if (batch == null) {
+            return null;
+        }
+        return progressBroadcaster.subscribe(batchId, batch.getTotalItems(), countByState(batchId),
+                batch.getState() == ScreeningBatchState.COMPLETED);
+    }
+
+    private Map<ScreeningItemState, Long> countByState(Long batchId) {
+        Map<ScreeningItemState, Long> counts = new EnumMap<>(ScreeningItemState.class);
+        screeningItemRepository.countByState(batchId).forEach(count -> counts.put(count.getState(), count.getCount()));
+        return counts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedBatches() {
+        for (ScreeningBatch batch : screeningBatchRepository.findByStateNot(ScreeningBatchState.COMPLETED)) {
+            log.info("Resuming bulk screening batch {}", batch.getId());
+            dispatch(batch.getId());
+        }
+    }
+
+    private void dispatch(Long batchId) {
+        bulkScreeningExecutor.execute(() -> {
+            try {
+                process(batchId);
+            } catch (Exception e) {
+                log.error("Bulk screening batch {} failed : {}", batchId, e.getMessage(), e);
+                screeningItemRepository.updateStateWhere(batchId, UNFINISHED, ScreeningItemState.FAILED,
+                        truncate(e.getMessage()), LocalDateTime.now());
+                complete(batchId);
+            }
+        });
+    }
+
+    private void process(Long batchId) throws IOException {
+        ScreeningBatch batch = screeningBatchRepository.findById(batchId).orElse(null);
+        if (batch == null || batch.getState() == ScreeningBatchState.COMPLETED) {
+            return;
+        }
+        batch.setState(ScreeningBatchState.RUNNING);
+        screeningBatchRepository.save(batch);
+
+        try (HeapPeakSampler.Window heap = heapPeakSampler.start()) {
+            List<ScreeningItemRepository.Pending> items = screeningItemRepository.findPendingByBatchIdAndStateIn(batchId, UNFINISHED);
+            Map<ResumeSource, Long> itemIds = new IdentityHashMap<>();
+            List<ResumeSource> sources = new ArrayList<>(items.size());
+            Path legacyDirectory = null;
+            for (ScreeningItemRepository.Pending item : items) {
+                String spoolPath = item.getSpoolPath();
+                if (spoolPath == null) {
+                    if (legacyDirectory == null) {
+                        legacyDirectory = resumeSpool.newBatchDirectory();
+                    }
+                    spoolPath = spoolLegacyItem(item.getId(), legacyDirectory);
+                }
+                ResumeSource source = ResumeSource.spooled(item.getFileName(), Paths.get(spoolPath));
+                itemIds.put(source, item.getId());
+                sources.add(source);
+            }
+            if (!sources.isEmpty()) {
+                long start = System.currentTimeMillis();
+                BulkScreeningListener listener = new ItemStateRecorder(itemIds)
+                        .andThen(progressBroadcaster.start(batchId, batch.getTotalItems(), countByState(batchId)));
+                perplexityService.screenBulk(sources, batch.getJobId(), batch.isBatched(), batch.getEngine(), listener);
+                log.info("Bulk screening batch {} screened {} files in {} ms, peak heap {} bytes", batchId, sources.size(),
+                        System.currentTimeMillis() - start, heap.getPeakBytes());
+            }
+            complete(batchId, heap.getPeakBytes());
+        }
+    }
+
+    /**
+     * Items queued before uploads were spooled still carry their file in the row; move it to the spool, one at a time.
+     */
+    private String spoolLegacyItem(Long itemId, Path directory) throws IOException {
+        ScreeningItem item = screeningItemRepository.findById(itemId).orElseThrow();
+        byte[] data = item.getFileData() == null ? new byte[0] : item.getFileData();
+        item.setSpoolPath(resumeSpool.spool(data, directory, String.valueOf(itemId)).toString());
+        item.setFileData(null);
+        screeningItemRepository.save(item);
+        return item.getSpoolPath();
+    }
+
+    private void complete(Long batchId) {
+        complete(batchId, null);
+    }
+
+    private void complete(Long batchId, Long peakHeapBytes) {
+        Set<ScreeningItemState> done = EnumSet.of(ScreeningItemState.SAVED, ScreeningItemState.DUPLICATE);
+        screeningItemRepository.findSpoolPaths(batchId, done).forEach(resumeSpool::delete);
+        screeningItemRepository.clearFileData(batchId, done);
+        screeningBatchRepository.findById(batchId).ifPresent(batch -> {
+            batch.setState(ScreeningBatchState.COMPLETED);
+            batch.setCompletedAt(LocalDateTime.now());
+            if (peakHeapBytes != null) {
+                batch.setPeakHeapBytes(peakHeapBytes);
+                heapPeak.record(peakHeapBytes);
+            }
+            screeningBatchRepository.save(batch);
+            progressBroadcaster.finish(batchId, batch.getTotalItems(), countByState(batchId));
+        });
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    /**
+     * Writes each file's progress to its item row as the screening moves along.
+     */
+    private final class ItemStateRecorder implements BulkScreeningListener {
+
+        private final Map<ResumeSource, Long> itemIds;
+
+        private ItemStateRecorder(Map<ResumeSource, Long> itemIds) {
+            this.itemIds = itemIds;
+        }
+
+        @Override
+        public void onParsing(ResumeSource source) {
+            update(source, ScreeningItemState.PARSING, null, null);
+        }
+
+        @Override
+        public void onParsed(ResumeSource source) {
+            update(source, ScreeningItemState.SCORING, null, null);
+        }
+
+        @Override
+        public void onSaved(ResumeSource source, Candidate candidate) {
+            update(source, ScreeningItemState.SAVED, candidate.getId(), null);
+        }
+
+        @Override
+        public void onDuplicate(ResumeSource source, String reason) {
+            update(source, ScreeningItemState.DUPLICATE, null, reason);
+        }
+
+        @Override
+        public void onFailed(ResumeSource source, String reason) {
+            update(source, ScreeningItemState.FAILED, null, truncate(Objects.requireNonNullElse(reason, "Unknown error")));
+        }
+
+        /**
+         * A failed write only loses the item's progress; it must not fail the resume or stop the run.
+         */
+        private void update(ResumeSource source, ScreeningItemState state, Long candidateId, String error) {
+            Long itemId = itemIds.get(source);
+            if (itemId == null) {
+                return;
+            }
+            try {
+                screeningItemRepository.updateState(itemId, state, candidateId, error, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.error("Could not record state {} for screening item {} : {}", state, itemId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.screening.profile.service.bulk.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples used heap while batches run and keeps the highest value seen by each. The heap is shared, so batches
+ * running side by side see each other's usage; the figure is an upper bound for the batch, not its own footprint.
+ */
+final class HeapPeakSampler {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final Set<Window> open = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final long intervalMs;
+    private ScheduledFuture<?> task;
+
+    HeapPeakSampler(long intervalMs) {
+        this.intervalMs = Math.max(10, intervalMs);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-heap-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    synchronized Window start() {
+        Window window = new Window();
+        window.sample(memory.getHeapMemoryUsage().getUsed());
+        open.add(window);
+        if (task == null) {
+            task = scheduler.scheduleAtFixedRate(this::sample, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+        return window;
+    }
+
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        long used = memory.getHeapMemoryUsage().getUsed();
+        open.forEach(window -> window.sample(used));
+    }
+
+    private synchronized void close(Window window) {
+        open.remove(window);
+        if (open.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    final class Window implements AutoCloseable {
+
+        private final AtomicLong peak = new AtomicLong();
+
+        private void sample(long used) {
+            peak.accumulateAndGet(used, Math::max);
+        }
+
+        long getPeakBytes() {
+            return peak.get();
+        }
+
+        @Override
+        public void close() {
+            sample(memory.getHeapMemoryUsage().getUsed());
+            HeapPeakSampler.this.close(this);
+        }
+    }
+}
@@ -4,14 +4,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.screening.profile.dto.CandidateInterviewDTO;
 import com.screening.profile.dto.CandidateReqDTO;
 import com.screening.profile.model.Candidate;
+import com.screening.profile.service.screening.ResumeDocument;
 import com.screening.profile.util.enums.Status;
-import org.springframework.web.multipart.MultipartFile;
+import com.screening.profile.util.matcher.ScreeningResult;
 
 import java.io.IOException;
 import java.util.List;
 
 public interface CandidateService {
-    Candidate extractAndSaveCandidateDetails(MultipartFile resume, String text, Long jobId, CandidateReqDTO candidateReqDTO) throws IOException;
+    Candidate extractAndSaveCandidateDetails(ResumeDocument resume, ScreeningResult result, String scoringEngine, Long jobId, CandidateReqDTO candidateReqDTO) throws IOException;
     List<Candidate> getAllCandidates();
     Candidate getCandidateById(Long id);
     boolean saveCandidate(Candidate candidate);
@@ -22,4 +23,10 @@ public interface CandidateService {
     List<Candidate> saveAllCandidates(List<Candidate> candidateBatches);
     boolean isDuplicate(String newResumeText, Long jobId);
     void saveJobApplicationAndInterview(Long jobId, Candidate candidate);
+
+    /**
+     * Saves screened candidates with their job application and interview rows in one transaction, letting
+     * Hibernate batch the inserts.
+     */
+    List<Candidate> saveScreenedCandidates(List<Candidate> candidates, Long jobId);
 }
@@ -1,12 +1,12 @@
 package com.screening.profile.service.candidate.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.screening.profile.dto.CandidateInterviewDTO;
 import com.screening.profile.dto.CandidateReqDTO;
 import com.screening.profile.exception.ServiceException;
 import com.screening.profile.exception.DuplicateCandidateException;
 import com.screening.profile.model.Candidate;
+import com.screening.profile.model.Job;
 import com.screening.profile.model.JobApplication;
 import com.screening.profile.model.Interview;
 import com.screening.profile.repository.CandidateRepository;
@@ -15,12 +15,17 @@ import com.screening.profile.repository.InterviewRepository;
 import com.screening.profile.service.EmailService;
 import com.screening.profile.service.job.JobService;
 import com.screening.profile.service.candidate.CandidateService;
+import com.screening.profile.service.dedupe.DuplicateResumeService;
+import com.screening.profile.service.dedupe.MinHash;
+import com.screening.profile.service.dedupe.ResumeSignature;
+import com.screening.profile.service.profile.ResumeProfileService;
+import com.screening.profile.service.screening.ResumeDocument;
 import com.screening.profile.util.ExtractorHelperUtils;
 import com.screening.profile.util.enums.Status;
+import com.screening.profile.util.matcher.ScreeningResult;
 import lombok.extern.slf4j.Slf4j;
-import me.xdrop.fuzzywuzzy.FuzzySearch;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -30,34 +35,39 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import static com.screening.profile.util.parser.PdfParsingUtil.extractText;
-
 @Service
 @Slf4j
 public class CandidateServiceImpl implements CandidateService {
 
-    private static final int SIMILARITY_THRESHOLD = 90;
-
     private final CandidateRepository candidateRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final InterviewRepository interviewRepository;
     private final JobService jobService;
+    private final ResumeProfileService resumeProfileService;
+    private final DuplicateResumeService duplicateResumeService;
     private EmailService emailService;
 
-    public CandidateServiceImpl(CandidateRepository candidateRepository, JobApplicationRepository jobApplicationRepository, InterviewRepository interviewRepository, JobService jobService, EmailService emailService) {
+    public CandidateServiceImpl(CandidateRepository candidateRepository, JobApplicationRepository jobApplicationRepository, InterviewRepository interviewRepository, JobService jobService, ResumeProfileService resumeProfileService, DuplicateResumeService duplicateResumeService, EmailService emailService) {
         this.candidateRepository = candidateRepository;
         this.jobApplicationRepository = jobApplicationRepository;
         this.interviewRepository = interviewRepository;
         this.jobService = jobService;
+        this.resumeProfileService = resumeProfileService;
+        this.duplicateResumeService = duplicateResumeService;
         this.emailService = emailService;
     }
 
+    /**
+     * Saves the candidate with its application, interview and duplicate fingerprint in one transaction, so a
+     * failure cannot leave a candidate that later duplicate checks would not see. The resume profile follows
+     * once that commits and cannot roll it back.
+     */
     @Override
-    public Candidate extractAndSaveCandidateDetails(MultipartFile resume, String text, Long jobId, CandidateReqDTO candidateReqDTO) throws IOException {
+    @Transactional(rollbackFor = IOException.class)
+    public Candidate extractAndSaveCandidateDetails(ResumeDocument resume, ScreeningResult result, String scoringEngine, Long jobId, CandidateReqDTO candidateReqDTO) throws IOException {
         Candidate candidate = new Candidate();
-        String resumeText = extractText(resume);
+        String resumeText = resume.text();
         candidateReqDTO.setResumeText(resumeText);
-        ObjectMapper objectMapper = new ObjectMapper();
         String email = candidateReqDTO.getEmail();
         String name = candidateReqDTO.getName();
         String phone = candidateReqDTO.getPhoneNumber();
@@ -76,28 +86,29 @@ public class CandidateServiceImpl implements CandidateService {
             }
         }
 
-        if (isDuplicate(resumeText, jobId)) {
+        ResumeSignature signature = MinHash.sign(resumeText);
+        if (duplicateResumeService.isDuplicate(signature, resumeText, jobId)) {
             log.info("You have already applied for this job role with different email/phone number");
             throw new DuplicateCandidateException("You have already applied for this job role with different email/phone number");
         }
 
-        String summary = objectMapper.readTree(text).get("summary").asText();
-        Double score = objectMapper.readTree(text).get("score").asDouble();
-        List<String> matchedSkills = objectMapper.readerForListOf(String.class).readValue(objectMapper.readTree(text).get("matchedSkills"));
         candidate.setEmail(email);
         candidate.setPhoneNumber(phone);
         candidate.setDateOfBirth(candidateReqDTO.getDob());
         candidate.setName(candidateReqDTO.getName());
-        candidate.setScore(score);
-        candidate.setSummary(summary);
-        candidate.setFileData(resume.getBytes());
+        candidate.setScore(result.score());
+        candidate.setScoringEngine(scoringEngine);
+        candidate.setSummary(result.summary());
+        candidate.setFileData(resume.source().getBytes());
         candidate.setUniqueId(uniqueId);
-        candidate.setMatchedSkills(matchedSkills);
+        candidate.setMatchedSkills(result.matchedSkills());
         candidate.setStatus(Status.IN_PROCESS);
         candidate.setResumeText(resumeText);
         log.info(candidate.toString());
         candidateRepository.save(candidate);
+        resumeProfileService.saveProfile(candidate);
         saveJobApplicationAndInterview(jobId, candidate);
+        duplicateResumeService.index(candidate.getId(), jobId, signature);
 
         return candidate;
     }
@@ -105,7 +116,7 @@ public class CandidateServiceImpl implements CandidateService {
     public void saveJobApplicationAndInterview(Long jobId, Candidate candidate) {
         JobApplication newJobApplication = new JobApplication();
         newJobApplication.setCandidate(candidate);
-        newJobApplication.setJob(jobService.getJob(Math.toIntExact(jobId)).get());
+        newJobApplication.setJob(screeningJob(jobId));
         newJobApplication.setApplicationDate(LocalDateTime.now());
         jobApplicationRepository.save(newJobApplication);
         Interview interview = new Interview();
@@ -113,6 +124,39 @@ public class CandidateServiceImpl implements CandidateService {
         interviewRepository.save(interview);
     }
 
+    @Override
+    @Transactional
+    public List<Candidate> saveScreenedCandidates(List<Candidate> candidates, Long jobId) {
+        Job job = screeningJob(jobId);
+        LocalDateTime applicationDate = LocalDateTime.now();
+        List<JobApplication> jobApplications = new ArrayList<>(candidates.size());
+        List<Interview> interviews = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            JobApplication jobApplication = new JobApplication();
+            jobApplication.setCandidate(candidate);
+            jobApplication.setJob(job);
+            jobApplication.setApplicationDate(applicationDate);
+            jobApplications.add(jobApplication);
+            Interview interview = new Interview();
+            interview.setJobApplication(jobApplication);
+            interviews.add(interview);
+        }
+        List<Candidate> saved = candidateRepository.saveAll(candidates);
+        jobApplicationRepository.saveAll(jobApplications);
+        interviewRepository.saveAll(interviews);
+        resumeProfileService.saveProfiles(saved);
+        duplicateResumeService.index(saved, jobId);
+        return saved;
+    }
+
+    private Job screeningJob(Long jobId) {
+        Job job = jobService.getScreeningContext(jobId).job();
+        if (job == null) {
+            throw new ServiceException("Job not found", "JOB_NOT_FOUND");
+        }
+        return job;
+    }
+
     public List<Candidate> getAllCandidates(){
         return candidateRepository.findAll();
     }
@@ -241,15 +285,7 @@ public class CandidateServiceImpl implements CandidateService {
     }
 
     public boolean isDuplicate(String newResumeText, Long jobId) {
-        List<Candidate> topCandidates = candidateRepository.findTopCandidatesByResumeTextAndJob(newResumeText, jobId);
-
-        for (Candidate existing : topCandidates) {
-            int similarityScore = FuzzySearch.ratio(newResumeText, existing.getResumeText());
-            if (similarityScore >= SIMILARITY_THRESHOLD) {
-                return true;
-            }
-        }
-        return false;
+        return duplicateResumeService.isDuplicate(newResumeText, jobId);
     }
 
     public List<Candidate> saveAllCandidates(List<Candidate> candidateBatches){
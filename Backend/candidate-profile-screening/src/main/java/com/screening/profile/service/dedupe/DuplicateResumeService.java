@@ -0,0 +1,31 @@
+package com.screening.profile.service.dedupe;
+
+import com.screening.profile.model.Candidate;
+import com.screening.profile.service.backfill.BackfillChunk;
+
+import java.util.List;
+
+public interface DuplicateResumeService {
+
+    /**
+     * Whether a candidate of the job already applied with a resume this close to {@code resumeText}.
+     */
+    boolean isDuplicate(String resumeText, Long jobId);
+
+    /**
+     * As {@link #isDuplicate(String, Long)}, with the signature already computed so it can be indexed afterwards.
+     */
+    boolean isDuplicate(ResumeSignature signature, String resumeText, Long jobId);
+
+    /**
+     * Stores the signature of a newly saved candidate and files its band hashes under the job.
+     */
+    void index(Long candidateId, Long jobId, ResumeSignature signature);
+    void index(List<Candidate> candidates, Long jobId);
+
+    /**
+     * Fingerprints up to {@code chunkSize} candidates after {@code afterId} that have none yet, under every job
+     * they applied to.
+     */
+    BackfillChunk backfill(Long afterId, int chunkSize);
+}
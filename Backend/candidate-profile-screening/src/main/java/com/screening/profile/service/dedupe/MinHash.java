@@ -0,0 +1,147 @@
+package com.screening.profile.service.dedupe;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures and LSH band hashes for near-duplicate detection. Text is lower cased and split into words,
+ * the words are grouped into overlapping shingles of {@link #SHINGLE_SIZE}, and the fraction of hash functions
+ * on which two signatures agree estimates the Jaccard similarity of the two shingle sets, in time linear in the
+ * resume length.
+ * <p>
+ * The signature is cut into {@link #BANDS} bands of {@link #ROWS} values; two resumes share at least one band
+ * hash with probability {@code 1 - (1 - J^ROWS)^BANDS}, which is above 98% from a similarity of 0.6 and about
+ * 23% at 0.3, so band hashes find the likely duplicates and the signatures rule out the rest.
+ * <p>
+ * Signatures and band hashes are stored, so the constants and the seed cannot change without rebuilding them.
+ */
+public final class MinHash {
+
+    public static final int SHINGLE_SIZE = 4;
+    public static final int BANDS = 32;
+    public static final int ROWS = 4;
+    public static final int HASHES = BANDS * ROWS;
+
+    private static final long SEED = 0x5EED_D00D_CAFE_F00DL;
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] INCREMENTS = new long[HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    public static ResumeSignature sign(String text) {
+        long[] words = wordHashes(text);
+        int[] minHashes = new int[HASHES];
+        Arrays.fill(minHashes, Integer.MAX_VALUE);
+        if (words.length < SHINGLE_SIZE) {
+            return new ResumeSignature(minHashes, 0);
+        }
+        long[] shingles = new long[words.length - SHINGLE_SIZE + 1];
+        for (int start = 0; start < shingles.length; start++) {
+            long shingle = 0;
+            for (int i = start; i < start + SHINGLE_SIZE; i++) {
+                shingle = (shingle ^ words[i]) * 0x100000001B3L;
+            }
+            shingles[start] = mix(shingle);
+        }
+        Arrays.sort(shingles);
+        int distinct = 0;
+        for (int s = 0; s < shingles.length; s++) {
+            if (s > 0 && shingles[s] == shingles[s - 1]) {
+                continue;
+            }
+            distinct++;
+            long shingle = shingles[s];
+            for (int i = 0; i < HASHES; i++) {
+                // Multiply-shift: the high 32 bits of a*x+b, with a odd, as the i-th hash function
+                int hash = (int) ((shingle * MULTIPLIERS[i] + INCREMENTS[i]) >>> 32);
+                if (Integer.compareUnsigned(hash, minHashes[i]) < 0) {
+                    minHashes[i] = hash;
+                }
+            }
+        }
+        return new ResumeSignature(minHashes, distinct);
+    }
+
+    /**
+     * One hash per band, with the band number mixed in so equal rows in different bands do not collide.
+     */
+    public static long[] bandHashes(ResumeSignature signature) {
+        int[] minHashes = signature.minHashes();
+        long[] bands = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = band;
+            for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                hash = mix(hash * 31 + minHashes[row]);
+            }
+            bands[band] = hash;
+        }
+        return bands;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the shingle sets behind two signatures; 0 when either has no shingles.
+     */
+    public static double similarity(ResumeSignature a, ResumeSignature b) {
+        if (a.isEmpty() || b.isEmpty() || a.minHashes().length != b.minHashes().length) {
+            return 0;
+        }
+        int equal = 0;
+        for (int i = 0; i < a.minHashes().length; i++) {
+            if (a.minHashes()[i] == b.minHashes()[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.minHashes().length;
+    }
+
+    /**
+     * FNV-1a over the lower cased letters and digits of each word.
+     */
+    private static long[] wordHashes(String text) {
+        long[] words = new long[64];
+        int count = 0;
+        long hash = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    hash = 0xCBF29CE484222325L;
+                    inWord = true;
+                }
+                hash = (hash ^ Character.toLowerCase(c)) * 0x100000001B3L;
+            } else if (inWord) {
+                if (count == words.length) {
+                    words = Arrays.copyOf(words, count * 2);
+                }
+                words[count++] = hash;
+                inWord = false;
+            }
+        }
+        if (inWord) {
+            if (count == words.length) {
+                words = Arrays.copyOf(words, count + 1);
+            }
+            words[count++] = hash;
+        }
+        return Arrays.copyOf(words, count);
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
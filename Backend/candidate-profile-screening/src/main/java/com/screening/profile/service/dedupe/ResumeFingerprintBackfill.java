@@ -0,0 +1,42 @@
+package com.screening.profile.service.dedupe;
+
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.service.backfill.BackfillChunk;
+import com.screening.profile.service.backfill.ChunkedBackfill;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fingerprints candidates saved before the LSH index existed. The {@code lsh} engine cannot match a
+ * candidate until it has a fingerprint. Counts the fingerprints written in {@code resume.dedupe.backfill}.
+ */
+@Component
+public class ResumeFingerprintBackfill extends ChunkedBackfill {
+
+    private final DuplicateResumeService duplicateResumeService;
+    private final CandidateRepository candidateRepository;
+
+    public ResumeFingerprintBackfill(DuplicateResumeService duplicateResumeService, CandidateRepository candidateRepository, MeterRegistry meterRegistry,
+                                     @Value("${dedupe.backfill.enabled:true}") boolean enabled,
+                                     @Value("${dedupe.backfill.chunk-size:500}") int chunkSize,
+                                     @Value("${dedupe.backfill.pause-ms:100}") long pauseMs) {
+        super("fingerprint", meterRegistry, "resume.dedupe.backfill", enabled, chunkSize, pauseMs);
+        this.duplicateResumeService = duplicateResumeService;
+        this.candidateRepository = candidateRepository;
+    }
+
+    @Override
+    protected BackfillChunk backfill(long afterId, int chunkSize) {
+        return duplicateResumeService.backfill(afterId, chunkSize);
+    }
+
+    @Override
+    protected Long lastId(long afterId, int chunkSize) {
+        List<CandidateRepository.ResumeText> rows = candidateRepository.findWithoutFingerprint(afterId, PageRequest.of(0, chunkSize));
+        return rows.isEmpty() ? null : rows.get(rows.size() - 1).getId();
+    }
+}
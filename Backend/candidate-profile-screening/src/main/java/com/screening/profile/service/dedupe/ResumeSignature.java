@@ -0,0 +1,29 @@
+package com.screening.profile.service.dedupe;
+
+import java.nio.ByteBuffer;
+
+/**
+ * MinHash signature of a resume: for each of the {@link MinHash#HASHES} hash functions, the smallest hash of
+ * any of the resume's shingles.
+ *
+ * @param minHashes one value per hash function
+ * @param shingles  distinct shingles in the resume, 0 when it had too few words to shingle
+ */
+public record ResumeSignature(int[] minHashes, int shingles) {
+
+    public boolean isEmpty() {
+        return shingles == 0;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer bytes = ByteBuffer.allocate(minHashes.length * Integer.BYTES);
+        bytes.asIntBuffer().put(minHashes);
+        return bytes.array();
+    }
+
+    public static ResumeSignature fromBytes(byte[] bytes, int shingles) {
+        int[] minHashes = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(minHashes);
+        return new ResumeSignature(minHashes, shingles);
+    }
+}
@@ -0,0 +1,176 @@
+package com.screening.profile.service.dedupe.impl;
+
+import com.screening.profile.model.Candidate;
+import com.screening.profile.model.LshBucket;
+import com.screening.profile.model.ResumeFingerprint;
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.repository.JobApplicationRepository;
+import com.screening.profile.repository.ResumeFingerprintRepository;
+import com.screening.profile.service.backfill.BackfillChunk;
+import com.screening.profile.service.dedupe.DuplicateResumeService;
+import com.screening.profile.service.dedupe.MinHash;
+import com.screening.profile.service.dedupe.ResumeSignature;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two ways to find a duplicate application. {@code lsh}, the default, probes the job's LSH buckets with the
+ * band hashes of the new resume and compares MinHash signatures of the candidates found, optionally confirming
+ * a match with the fuzzy ratio over the two texts. {@code fulltext} asks MySQL for the ten best FULLTEXT matches
+ * of the whole resume and runs the fuzzy ratio against each of them, as screening always did.
+ * <p>
+ * Publishes {@code resume.dedupe.time} tagged with the engine and outcome, and {@code resume.dedupe.lsh.candidates},
+ * the number of candidates an LSH probe returned.
+ */
+@Service
+@Slf4j
+public class DuplicateResumeServiceImpl implements DuplicateResumeService {
+
+    private static final int SIMILARITY_THRESHOLD = 90;
+    private static final int MAX_FUZZY_CONFIRMATIONS = 10;
+
+    private final ResumeFingerprintRepository resumeFingerprintRepository;
+    private final CandidateRepository candidateRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary lshCandidates;
+    private final boolean lsh;
+    private final double similarityThreshold;
+    private final boolean fuzzyConfirm;
+
+    public DuplicateResumeServiceImpl(ResumeFingerprintRepository resumeFingerprintRepository, CandidateRepository candidateRepository,
+                                      JobApplicationRepository jobApplicationRepository, MeterRegistry meterRegistry,
+                                      @Value("${dedupe.engine:lsh}") String engine,
+                                      @Value("${dedupe.similarity-threshold:0.6}") double similarityThreshold,
+                                      @Value("${dedupe.fuzzy-confirm:false}") boolean fuzzyConfirm) {
+        this.resumeFingerprintRepository = resumeFingerprintRepository;
+        this.candidateRepository = candidateRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.meterRegistry = meterRegistry;
+        this.lshCandidates = meterRegistry.summary("resume.dedupe.lsh.candidates");
+        this.lsh = !"fulltext".equalsIgnoreCase(engine);
+        this.similarityThreshold = similarityThreshold;
+        this.fuzzyConfirm = fuzzyConfirm;
+    }
+
+    @Override
+    public boolean isDuplicate(String resumeText, Long jobId) {
+        return isDuplicate(lsh ? MinHash.sign(resumeText) : null, resumeText, jobId);
+    }
+
+    @Override
+    public boolean isDuplicate(ResumeSignature signature, String resumeText, Long jobId) {
+        long start = System.nanoTime();
+        boolean duplicate = lsh ? isLshDuplicate(signature, resumeText, jobId) : isFullTextDuplicate(resumeText, jobId);
+        Timer.builder("resume.dedupe.time").tag("engine", lsh ? "lsh" : "fulltext").tag("outcome", duplicate ? "duplicate" : "unique")
+                .register(meterRegistry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return duplicate;
+    }
+
+    private boolean isLshDuplicate(ResumeSignature signature, String resumeText, Long jobId) {
+        if (signature.isEmpty()) {
+            return false;
+        }
+        List<Long> bands = new ArrayList<>(MinHash.BANDS);
+        for (long band : MinHash.bandHashes(signature)) {
+            bands.add(band);
+        }
+        List<ResumeFingerprintRepository.Signature> found = resumeFingerprintRepository.findByJobAndBands(jobId, bands);
+        lshCandidates.record(found.size());
+        Map<Long, Double> similar = new HashMap<>();
+        for (ResumeFingerprintRepository.Signature existing : found) {
+            double similarity = MinHash.similarity(signature, ResumeSignature.fromBytes(existing.getSignature(), existing.getShingles()));
+            if (similarity >= similarityThreshold) {
+                similar.put(existing.getCandidateId(), similarity);
+            }
+        }
+        if (!fuzzyConfirm || similar.isEmpty()) {
+            return !similar.isEmpty();
+        }
+        return similar.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(MAX_FUZZY_CONFIRMATIONS)
+                .map(entry -> candidateRepository.findResumeTextById(entry.getKey()))
+                .anyMatch(existing -> existing != null && FuzzySearch.ratio(resumeText, existing) >= SIMILARITY_THRESHOLD);
+    }
+
+    private boolean isFullTextDuplicate(String resumeText, Long jobId) {
+        List<Candidate> topCandidates = candidateRepository.findTopCandidatesByResumeTextAndJob(resumeText, jobId);
+        for (Candidate existing : topCandidates) {
+            if (FuzzySearch.ratio(resumeText, existing.getResumeText()) >= SIMILARITY_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void index(Long candidateId, Long jobId, ResumeSignature signature) {
+        resumeFingerprintRepository.save(fingerprint(candidateId, signature, List.of(jobId)));
+    }
+
+    @Override
+    public void index(List<Candidate> candidates, Long jobId) {
+        List<ResumeFingerprint> fingerprints = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (candidate.getResumeText() != null) {
+                fingerprints.add(fingerprint(candidate.getId(), MinHash.sign(candidate.getResumeText()), List.of(jobId)));
+            }
+        }
+        resumeFingerprintRepository.saveAll(fingerprints);
+    }
+
+    @Override
+    @Transactional
+    public BackfillChunk backfill(Long afterId, int chunkSize) {
+        List<CandidateRepository.ResumeText> sources = candidateRepository.findWithoutFingerprint(afterId, PageRequest.of(0, chunkSize));
+        if (sources.isEmpty()) {
+            return BackfillChunk.done();
+        }
+        Map<Long, List<Long>> jobIds = new HashMap<>();
+        for (Object[] row : jobApplicationRepository.findJobIdsByCandidateIds(sources.stream().map(CandidateRepository.ResumeText::getId).toList())) {
+            jobIds.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>()).add(((Number) row[1]).longValue());
+        }
+        List<ResumeFingerprint> fingerprints = new ArrayList<>(sources.size());
+        for (CandidateRepository.ResumeText source : sources) {
+            fingerprints.add(fingerprint(source.getId(), MinHash.sign(source.getResumeText()), jobIds.getOrDefault(source.getId(), List.of())));
+        }
+        resumeFingerprintRepository.saveAll(fingerprints);
+        return new BackfillChunk(fingerprints.size(), sources.get(sources.size() - 1).getId());
+    }
+
+    /**
+     * A resume too short to shingle is stored without buckets, so it is never probed and never backfilled again.
+     */
+    private static ResumeFingerprint fingerprint(Long candidateId, ResumeSignature signature, List<Long> jobIds) {
+        ResumeFingerprint fingerprint = new ResumeFingerprint();
+        fingerprint.setCandidateId(candidateId);
+        fingerprint.setSignature(signature.toBytes());
+        fingerprint.setShingles(signature.shingles());
+        fingerprint.setCreatedAt(LocalDateTime.now());
+        if (!signature.isEmpty()) {
+            long[] bands = MinHash.bandHashes(signature);
+            for (Long jobId : jobIds) {
+                for (long band : bands) {
+                    fingerprint.getBuckets().add(new LshBucket(jobId, band));
+                }
+            }
+        }
+        return fingerprint;
+    }
+}
@@ -7,9 +7,11 @@ import com.screening.profile.util.SetInterviewerRequest;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InterviewService {
     Interview createInterview(Interview interviewDetails, Long jobAppId) throws IOException, InterruptedException;
+    Interview createInterviewStreaming(Interview interviewDetails, Long jobAppId, Consumer<String> onSummaryDelta);
     List<InterviewDTO> getAllInterviews();
     Interview setInterviewer(Integer id, SetInterviewerRequest request);
     List<InterviewerPageResponseDTO> findPendingInterviewsForInterviewer(String email);
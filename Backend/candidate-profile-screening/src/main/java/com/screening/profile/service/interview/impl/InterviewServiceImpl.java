@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -40,21 +41,7 @@ public class InterviewServiceImpl implements InterviewService {
 
         Optional<Interview> savedInterview = interviewRepository.findByJobApplicationId(jobAppId);
         if(savedInterview.isPresent()) {
-            Interview interview = savedInterview.get();
-            interview.setId(savedInterview.get().getId());
-            interview.setRound1Details(interviewDetails.getRound1Details());
-            interview.setRound2Details(interviewDetails.getRound2Details());
-            interview.setRound3Details(interviewDetails.getRound3Details());
-            if(interview.getRound3Details()!= null){
-                interview.setRound3Done(true);
-            }
-            else if(interview.getRound2Details()!= null){
-                interview.setRound2Done(true);
-            }
-            else if(interview.getRound1Details()!= null){
-                interview.setRound1Done(true);
-            }
-            interview.setJobApplication(interviewDetails.getJobApplication());
+            Interview interview = applyRoundDetails(savedInterview.get(), interviewDetails);
             String feedback = getSummarizedFeedback(interviewDetails);
             interview.setFeedback(feedback);
             return interviewRepository.save(interview);
@@ -62,6 +49,36 @@ public class InterviewServiceImpl implements InterviewService {
         return interviewRepository.save(interviewDetails);
     }
 
+    @Override
+    public Interview createInterviewStreaming(Interview interviewDetails, Long jobAppId, Consumer<String> onSummaryDelta) {
+
+        Optional<Interview> savedInterview = interviewRepository.findByJobApplicationId(jobAppId);
+        if(savedInterview.isPresent()) {
+            Interview interview = applyRoundDetails(savedInterview.get(), interviewDetails);
+            String feedback = this.perplexityService.streamSummarizedFeedback(combineFeedback(interviewDetails), onSummaryDelta);
+            interview.setFeedback(feedback);
+            return interviewRepository.save(interview);
+        }
+        return interviewRepository.save(interviewDetails);
+    }
+
+    private Interview applyRoundDetails(Interview interview, Interview interviewDetails) {
+        interview.setRound1Details(interviewDetails.getRound1Details());
+        interview.setRound2Details(interviewDetails.getRound2Details());
+        interview.setRound3Details(interviewDetails.getRound3Details());
+        if(interview.getRound3Details()!= null){
+            interview.setRound3Done(true);
+        }
+        else if(interview.getRound2Details()!= null){
+            interview.setRound2Done(true);
+        }
+        else if(interview.getRound1Details()!= null){
+            interview.setRound1Done(true);
+        }
+        interview.setJobApplication(interviewDetails.getJobApplication());
+        return interview;
+    }
+
     @Override
     public List<InterviewDTO> getAllInterviews(){
         List<InterviewDTO> interviewList = interviewRepository.findAll().stream()
@@ -184,6 +201,10 @@ public class InterviewServiceImpl implements InterviewService {
     }
 
     private String getSummarizedFeedback(Interview interviewDetails) throws IOException, InterruptedException {
+        return this.perplexityService.askPerplexityForSummarizedFeedback(combineFeedback(interviewDetails));
+    }
+
+    private String combineFeedback(Interview interviewDetails) {
 
         String feedback1 = "";
         String feedback2 = "";
@@ -198,9 +219,7 @@ public class InterviewServiceImpl implements InterviewService {
         if(Optional.ofNullable(interviewDetails.getRound1Details()).isPresent()){
             feedback1 = feedback1 + interviewDetails.getRound1Details().getFeedback();
         }
-        String finalFeedback = feedback1 + System.lineSeparator() + feedback2 + System.lineSeparator() + feedback3;
-
-        return this.perplexityService.askPerplexityForSummarizedFeedback(finalFeedback);
+        return feedback1 + System.lineSeparator() + feedback2 + System.lineSeparator() + feedback3;
     }
 }
 
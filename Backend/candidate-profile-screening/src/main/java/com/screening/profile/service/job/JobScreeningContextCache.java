@@ -0,0 +1,86 @@
+package com.screening.profile.service.job;
+
+import com.screening.profile.model.Job;
+import com.screening.profile.repository.JobRepository;
+import com.screening.profile.service.scoring.JobScreeningContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps a {@link JobScreeningContext} per job so screening looks a job up once instead of once per resume.
+ * {@link JobService} invalidates an entry whenever it saves, updates or deletes the job; the TTL only bounds
+ * how long another instance's edits can go unseen. Jobs that do not exist are not cached.
+ */
+@Component
+public class JobScreeningContextCache {
+
+    private final JobRepository jobRepository;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<Integer, Cached> contexts;
+    // Bumped on every invalidation so a load that raced with one is not cached
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public JobScreeningContextCache(JobRepository jobRepository, MeterRegistry meterRegistry,
+                                    @Value("${jobs.context-cache.max-entries:200}") int maxEntries,
+                                    @Value("${jobs.context-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.jobRepository = jobRepository;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.contexts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Cached> eldest) {
+                return size() > JobScreeningContextCache.this.maxEntries;
+            }
+        };
+        this.hits = meterRegistry.counter("jobs.context.cache.hits");
+        this.misses = meterRegistry.counter("jobs.context.cache.misses");
+        meterRegistry.gaugeMapSize("jobs.context.cache.size", List.of(), contexts);
+    }
+
+    public JobScreeningContext get(Integer jobId) {
+        long loadedAt = System.nanoTime();
+        long seen;
+        synchronized (contexts) {
+            Cached cached = contexts.get(jobId);
+            if (cached != null && loadedAt - cached.loadedAt() < ttl.toNanos()) {
+                hits.increment();
+                return cached.context();
+            }
+            seen = generation;
+        }
+        misses.increment();
+        Optional<Job> job = jobRepository.findById(jobId);
+        if (job.isEmpty()) {
+            return JobScreeningContext.missing();
+        }
+        JobScreeningContext context = JobScreeningContext.of(job.get());
+        synchronized (contexts) {
+            if (generation == seen) {
+                contexts.put(jobId, new Cached(context, loadedAt));
+            }
+        }
+        return context;
+    }
+
+    public void invalidate(Integer jobId) {
+        synchronized (contexts) {
+            generation++;
+            contexts.remove(jobId);
+        }
+    }
+
+    private record Cached(JobScreeningContext context, long loadedAt) {
+    }
+}
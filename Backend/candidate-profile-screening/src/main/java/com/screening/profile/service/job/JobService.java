@@ -1,6 +1,7 @@
 package com.screening.profile.service.job;
 
 import com.screening.profile.model.Job;
+import com.screening.profile.service.scoring.JobScreeningContext;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,11 @@ public interface JobService {
     Job saveJob(Job job);
     Optional<Job> getJob(Integer id);
     String getJobDescription(Long id);
+
+    /**
+     * The cached screening view of the job; its {@code job} is null when there is no such job.
+     */
+    JobScreeningContext getScreeningContext(Long id);
     Job updateJob(Integer id, Job job);
     void deleteJob(Integer id);
 }
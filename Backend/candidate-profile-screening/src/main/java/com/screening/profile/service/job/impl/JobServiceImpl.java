@@ -4,7 +4,9 @@ import com.screening.profile.model.Job;
 import com.screening.profile.repository.InterviewRepository;
 import com.screening.profile.repository.JobRepository;
 import com.screening.profile.repository.JobApplicationRepository;
+import com.screening.profile.service.job.JobScreeningContextCache;
 import com.screening.profile.service.job.JobService;
+import com.screening.profile.service.scoring.JobScreeningContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -19,12 +21,15 @@ public class JobServiceImpl implements JobService {
     private final JobRepository jobRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final InterviewRepository interviewRepository;
+    private final JobScreeningContextCache jobScreeningContextCache;
 
     @Autowired
-    public JobServiceImpl(JobRepository jobRepository, JobApplicationRepository jobApplicationRepository, InterviewRepository interviewRepository) {
+    public JobServiceImpl(JobRepository jobRepository, JobApplicationRepository jobApplicationRepository, InterviewRepository interviewRepository,
+                          JobScreeningContextCache jobScreeningContextCache) {
         this.jobRepository = jobRepository;
         this.jobApplicationRepository = jobApplicationRepository;
         this.interviewRepository = interviewRepository;
+        this.jobScreeningContextCache = jobScreeningContextCache;
     }
 
     @Override
@@ -39,7 +44,9 @@ public class JobServiceImpl implements JobService {
 
     @Override
     public Job saveJob(Job job) {
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobScreeningContextCache.invalidate(saved.getId());
+        return saved;
     }
 
     @Override
@@ -50,15 +57,20 @@ public class JobServiceImpl implements JobService {
     @Override
     public String getJobDescription(Long id) {
         String jobDescription = "";
-        Optional<Job> job = jobRepository.findById(Math.toIntExact(id));
-        if(job.isPresent()){
-            jobDescription = job.get().getDescription();
+        Job job = getScreeningContext(id).job();
+        if(job != null){
+            jobDescription = job.getDescription();
         } else{
             log.error("No job present for this id");
         }
         return jobDescription;
     }
 
+    @Override
+    public JobScreeningContext getScreeningContext(Long id) {
+        return jobScreeningContextCache.get(Math.toIntExact(id));
+    }
+
     @Override
     public Job updateJob(Integer id, Job jobDetails) {
         Optional<Job> existingJob = jobRepository.findById(id);
@@ -68,7 +80,10 @@ public class JobServiceImpl implements JobService {
             job.setRequiredSkills(jobDetails.getRequiredSkills());
             job.setDescription(jobDetails.getDescription());
             job.setLocation(jobDetails.getLocation());
-            return jobRepository.save(job);
+            job.setScoringEngine(jobDetails.getScoringEngine());
+            Job saved = jobRepository.save(job);
+            jobScreeningContextCache.invalidate(id);
+            return saved;
         } else {
             log.error("Job not found with id: {}", id);
             throw new RuntimeException("Job not found with id: " + id);
@@ -93,6 +108,7 @@ public class JobServiceImpl implements JobService {
             // Then delete the job
             log.info("Deleting job with id: {}", id);
             jobRepository.deleteById(id);
+            jobScreeningContextCache.invalidate(id);
             log.info("Successfully deleted job with id: {}", id);
         } else {
             throw new RuntimeException("Job not found with id: " + id);
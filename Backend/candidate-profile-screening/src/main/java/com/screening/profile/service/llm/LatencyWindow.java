@@ -0,0 +1,37 @@
+package com.screening.profile.service.llm;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size ring of recent latencies, enough to estimate a percentile for hedging without keeping a histogram.
+ */
+final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    LatencyWindow(int size) {
+        this.samples = new long[Math.max(1, size)];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    synchronized int size() {
+        return count;
+    }
+
+    synchronized long percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
@@ -0,0 +1,157 @@
+package com.screening.profile.service.llm;
+
+import com.screening.profile.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count based circuit breaker for LLM calls. It opens when the failure rate over the last {@code window-size}
+ * calls reaches the threshold, where a 5xx, an I/O error or a call slower than {@code slow-call-ms} counts as a
+ * failure. A 429 counts neither way, it is rate limiting for the traffic limiter to absorb. Callers report
+ * one outcome per permit, however many attempts they made with it. While open every call is rejected straight
+ * away so callers can use the local engine; after {@code open-ms} a few half-open probes decide whether to
+ * close again or stay open.
+ */
+@Slf4j
+@Component
+public class LlmCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private final Counter trips;
+    private final Counter rejected;
+
+    public LlmCircuitBreaker(MeterRegistry meterRegistry,
+                             @Value("${perplexity.breaker.enabled:true}") boolean enabled,
+                             @Value("${perplexity.breaker.window-size:20}") int windowSize,
+                             @Value("${perplexity.breaker.minimum-calls:10}") int minimumCalls,
+                             @Value("${perplexity.breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                             @Value("${perplexity.breaker.slow-call-ms:20000}") long slowCallMs,
+                             @Value("${perplexity.breaker.open-ms:30000}") long openMs,
+                             @Value("${perplexity.breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.enabled = enabled;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+
+        this.trips = meterRegistry.counter("llm.breaker.trips");
+        this.rejected = meterRegistry.counter("llm.breaker.rejected");
+        meterRegistry.gauge("llm.breaker.state", this, breaker -> breaker.getState().ordinal());
+        meterRegistry.gauge("llm.breaker.failure.rate", this, LlmCircuitBreaker::getFailureRate);
+    }
+
+    /**
+     * Lets the call through, or throws {@code LLM_CIRCUIT_OPEN} when the breaker is open or all half-open
+     * probes are already out.
+     */
+    public synchronized void acquirePermission() {
+        if (!enabled) {
+            return;
+        }
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return;
+        }
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+            halfOpenPermits++;
+            return;
+        }
+        rejected.increment();
+        throw new ServiceException("LLM circuit breaker is open", "LLM_CIRCUIT_OPEN");
+    }
+
+    public synchronized void onResult(boolean success, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        boolean failure = !success || durationNanos > slowCallNanos;
+        switch (state) {
+            case CLOSED -> {
+                if (windowCount == window.length) {
+                    windowFailures -= window[windowIndex] ? 1 : 0;
+                } else {
+                    windowCount++;
+                }
+                window[windowIndex] = failure;
+                windowFailures += failure ? 1 : 0;
+                windowIndex = (windowIndex + 1) % window.length;
+                if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+                    trip();
+                }
+            }
+            case HALF_OPEN -> {
+                if (failure) {
+                    trip();
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * Hands back a half-open probe that ended without a verdict, e.g. because the caller was interrupted.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > halfOpenSuccesses) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0 : (double) windowFailures / windowCount;
+    }
+
+    private void trip() {
+        trips.increment();
+        openedAt = System.nanoTime();
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        log.warn("LLM circuit breaker {} -> {}", state, next);
+        state = next;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
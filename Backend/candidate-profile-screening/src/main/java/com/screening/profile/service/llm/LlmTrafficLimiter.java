@@ -0,0 +1,157 @@
+package com.screening.profile.service.llm;
+
+import com.screening.profile.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide gate for outbound LLM requests. A token bucket caps requests per minute and an AIMD window
+ * caps concurrency: the window grows by roughly one slot per window of successes and halves on 429/5xx.
+ * Callers wait for capacity until their deadline instead of failing straight away.
+ */
+@Slf4j
+@Component
+public class LlmTrafficLimiter {
+
+    public enum Outcome {
+        SUCCESS,
+        THROTTLED,
+        FAILED
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition capacityChanged = lock.newCondition();
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double bucketCapacity;
+    private final double tokensPerNano;
+
+    private double limit;
+    private double tokens;
+    private long lastRefillNanos;
+    private int inFlight;
+
+    private final Timer waitTimer;
+    private final Counter timeouts;
+    private final Counter throttles;
+
+    public LlmTrafficLimiter(MeterRegistry meterRegistry,
+                             @Value("${perplexity.limiter.requests-per-minute:50}") int requestsPerMinute,
+                             @Value("${perplexity.limiter.burst:10}") int burst,
+                             @Value("${perplexity.limiter.initial-concurrency:8}") int initialConcurrency,
+                             @Value("${perplexity.limiter.min-concurrency:1}") int minConcurrency,
+                             @Value("${perplexity.limiter.max-concurrency:20}") int maxConcurrency) {
+        this.minLimit = minConcurrency;
+        this.maxLimit = maxConcurrency;
+        this.limit = Math.max(minConcurrency, Math.min(maxConcurrency, initialConcurrency));
+        this.bucketCapacity = Math.max(1, burst);
+        this.tokens = bucketCapacity;
+        this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.lastRefillNanos = System.nanoTime();
+
+        this.waitTimer = meterRegistry.timer("llm.limiter.wait");
+        this.timeouts = meterRegistry.counter("llm.limiter.timeouts");
+        this.throttles = meterRegistry.counter("llm.limiter.throttled");
+        meterRegistry.gauge("llm.limiter.concurrency.limit", this, LlmTrafficLimiter::getLimit);
+        meterRegistry.gauge("llm.limiter.in.flight", this, LlmTrafficLimiter::getInFlight);
+        meterRegistry.gauge("llm.limiter.tokens", this, LlmTrafficLimiter::getTokens);
+    }
+
+    /**
+     * Blocks until both a rate token and a concurrency slot are available, or the deadline passes.
+     *
+     * @param deadlineNanos absolute {@link System#nanoTime()} deadline
+     */
+    public void acquire(long deadlineNanos) throws InterruptedException {
+        long start = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                refill();
+                if (inFlight < (int) limit && tokens >= 1) {
+                    tokens -= 1;
+                    inFlight++;
+                    return;
+                }
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    timeouts.increment();
+                    throw new ServiceException("Timed out waiting for LLM capacity", "LLM_RATE_LIMITED");
+                }
+                long wait = remaining;
+                if (tokens < 1 && tokensPerNano > 0) {
+                    wait = Math.min(wait, (long) Math.ceil((1 - tokens) / tokensPerNano));
+                }
+                capacityChanged.awaitNanos(wait);
+            }
+        } finally {
+            lock.unlock();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Takes capacity only if it is available right now, used for optional work such as hedged requests.
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            refill();
+            if (inFlight < (int) limit && tokens >= 1) {
+                tokens -= 1;
+                inFlight++;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            switch (outcome) {
+                case SUCCESS -> limit = Math.min(maxLimit, limit + 1.0 / limit);
+                case THROTTLED -> {
+                    throttles.increment();
+                    limit = Math.max(minLimit, limit / 2);
+                    log.warn("LLM throttled, concurrency window reduced to {}", (int) limit);
+                }
+                case FAILED -> {
+                }
+            }
+            capacityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public double getTokens() {
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(bucketCapacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
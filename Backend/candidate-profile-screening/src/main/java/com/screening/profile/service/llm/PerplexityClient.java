@@ -0,0 +1,430 @@
+package com.screening.profile.service.llm;
+
+import com.screening.profile.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class PerplexityClient {
+
+    @Value("${perplexity.api.key:}")
+    private String apiKey;
+
+    @Value("${perplexity.base-url:https://api.perplexity.ai/chat/completions}")
+    private String API_ENDPOINT;
+
+    @Value("${perplexity.http.request-timeout-ms:60000}")
+    private long requestTimeoutMs;
+
+    @Value("${perplexity.limiter.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${perplexity.limiter.background-max-wait-ms:600000}")
+    private long backgroundMaxWaitMs;
+
+    @Value("${perplexity.limiter.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${perplexity.limiter.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${perplexity.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${perplexity.hedge.min-delay-ms:1000}")
+    private long hedgeMinDelayMs;
+
+    @Value("${perplexity.hedge.min-samples:20}")
+    private int hedgeMinSamples;
+
+    private final HttpClient httpClient;
+    private final LlmTrafficLimiter trafficLimiter;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LatencyWindow latencies = new LatencyWindow(256);
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    public PerplexityClient(HttpClient perplexityHttpClient, LlmTrafficLimiter trafficLimiter,
+                            LlmCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.httpClient = perplexityHttpClient;
+        this.trafficLimiter = trafficLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.hedges = meterRegistry.counter("perplexity.http.hedges", "result", "sent");
+        this.hedgeWins = meterRegistry.counter("perplexity.http.hedges", "result", "won");
+        meterRegistry.gauge("perplexity.http.in.flight", inFlight);
+        meterRegistry.gauge("perplexity.http.latency.p95", this,
+                client -> TimeUnit.NANOSECONDS.toMillis(client.latencies.percentile(0.95)));
+    }
+
+    public boolean hasApiKey() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * Opens connections to the API host ahead of the first screening by sending {@code connections} concurrent
+     * unauthenticated HEAD requests, which the API rejects without doing any work. The TLS sessions stay in the
+     * client's pool for the keep-alive period. Returns the status codes seen, bypassing the limiter and breaker.
+     */
+    public List<Integer> openConnections(int connections) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(API_ENDPOINT))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .build();
+        List<CompletableFuture<HttpResponse<Void>>> responses = Stream.generate(
+                        () -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .limit(Math.max(1, connections))
+                .toList();
+        try {
+            return responses.stream().map(CompletableFuture::join).map(HttpResponse::statusCode).toList();
+        } catch (CompletionException e) {
+            throw new ServiceException("Could not connect to " + API_ENDPOINT + " : " + e.getCause().getMessage(), "INTERNAL_ERROR");
+        }
+    }
+
+    /**
+     * Sends a completion through the circuit breaker and the traffic limiter, retrying 429/5xx answers with
+     * backoff until the limiter deadline. Throws {@code LLM_CIRCUIT_OPEN} without calling out while the
+     * breaker is open. The breaker hears one outcome per send, that of the last attempt.
+     */
+    public HttpResponse<String> send(String requestBody) throws IOException, InterruptedException {
+        return send(requestBody, maxWaitMs);
+    }
+
+    /**
+     * Like {@link #send(String)}, but queues for limiter capacity up to {@code background-max-wait-ms}. For bulk
+     * work that nobody is waiting on, which would rather wait its turn than give up after the interactive deadline.
+     */
+    public HttpResponse<String> sendInBackground(String requestBody) throws IOException, InterruptedException {
+        return send(requestBody, backgroundMaxWaitMs);
+    }
+
+    private HttpResponse<String> send(String requestBody, long waitMs) throws IOException, InterruptedException {
+        circuitBreaker.acquirePermission();
+        Attempt attempt;
+        try {
+            attempt = sendWithRetries(requestBody, waitMs);
+        } catch (IOException e) {
+            circuitBreaker.onResult(false, 0);
+            throw e;
+        } catch (InterruptedException | RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        recordOutcome(attempt.response().statusCode(), attempt.nanos());
+        return attempt.response();
+    }
+
+    /**
+     * Like {@link #send(String)}, but when the first attempt has not answered within the recent p95 a second,
+     * identical request is fired and whichever answers first wins; the other is cancelled. Meant for interactive
+     * calls where tail latency matters. Falls back to a plain send until enough latencies have been observed,
+     * when hedging is disabled, or when the limiter has no spare capacity for the hedge. Hedged calls are not
+     * retried, a 429/5xx answer is returned as is.
+     */
+    public HttpResponse<String> sendHedged(String requestBody) throws IOException, InterruptedException {
+        long hedgeDelayNanos = hedgeDelayNanos();
+        if (hedgeDelayNanos <= 0 || circuitBreaker.getState() != LlmCircuitBreaker.State.CLOSED) {
+            return send(requestBody);
+        }
+        circuitBreaker.acquirePermission();
+        try {
+            trafficLimiter.acquire(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+        } catch (InterruptedException | ServiceException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> attempts = new ArrayList<>(2);
+        try {
+            HttpResponse<String> response = awaitHedged(requestBody, hedgeDelayNanos, attempts);
+            recordOutcome(response.statusCode(), System.nanoTime() - start);
+            return response;
+        } catch (ExecutionException e) {
+            circuitBreaker.onResult(false, System.nanoTime() - start);
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException | RuntimeException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * Waits for the primary attempt, adding a hedge once it is slower than the delay. Both attempts go into
+     * {@code attempts} so the caller can cancel whichever is still running.
+     */
+    private HttpResponse<String> awaitHedged(String requestBody, long hedgeDelayNanos, List<CompletableFuture<HttpResponse<String>>> attempts)
+            throws ExecutionException, InterruptedException {
+        CompletableFuture<HttpResponse<String>> primary = executeAsync(requestBody);
+        attempts.add(primary);
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (!trafficLimiter.tryAcquire()) {
+                return primary.get();
+            }
+        }
+        hedges.increment();
+        log.debug("Perplexity call exceeded {} ms, sending a hedged request", TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        CompletableFuture<HttpResponse<String>> hedge = executeAsync(requestBody);
+        attempts.add(hedge);
+        HttpResponse<String> response = firstUsable(primary, hedge).get();
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.join() == response) {
+            hedgeWins.increment();
+        }
+        return response;
+    }
+
+    private Attempt sendWithRetries(String requestBody, long waitMs) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+        int attempt = 0;
+        while (true) {
+            trafficLimiter.acquire(deadline);
+            HttpResponse<String> response;
+            long start = System.nanoTime();
+            try {
+                response = execute(requestBody);
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                trafficLimiter.release(LlmTrafficLimiter.Outcome.FAILED);
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            if (!isThrottled(response.statusCode())) {
+                trafficLimiter.release(LlmTrafficLimiter.Outcome.SUCCESS);
+                return new Attempt(response, nanos);
+            }
+            trafficLimiter.release(LlmTrafficLimiter.Outcome.THROTTLED);
+            long backoffNanos = retryAfterNanos(response, attempt);
+            if (attempt >= maxRetries || System.nanoTime() + backoffNanos >= deadline) {
+                log.warn("Perplexity returned {} and retries are exhausted", response.statusCode());
+                return new Attempt(response, nanos);
+            }
+            attempt++;
+            log.info("Perplexity returned {}, retry {} in {} ms", response.statusCode(), attempt,
+                    TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+            TimeUnit.NANOSECONDS.sleep(backoffNanos);
+        }
+    }
+
+    /**
+     * Sends a {@code stream: true} completion and hands every server-sent {@code data:} payload to the consumer
+     * as it arrives. Streams are not retried, since part of the answer may already have been delivered.
+     */
+    public void stream(String requestBody, Consumer<String> onData) throws IOException, InterruptedException {
+        circuitBreaker.acquirePermission();
+        try {
+            trafficLimiter.acquire(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs));
+        } catch (InterruptedException | ServiceException e) {
+            circuitBreaker.onIgnored();
+            throw e;
+        }
+        LlmTrafficLimiter.Outcome limiterOutcome = LlmTrafficLimiter.Outcome.FAILED;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        String outcome = "error";
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Stream<String>> response;
+            try {
+                // Measured to the response headers, a long answer is not a slow call
+                response = httpClient.send(buildRequest(requestBody), HttpResponse.BodyHandlers.ofLines());
+            } catch (IOException e) {
+                circuitBreaker.onResult(false, System.nanoTime() - start);
+                throw e;
+            } catch (InterruptedException e) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+            recordOutcome(response.statusCode(), System.nanoTime() - start);
+            outcome = String.valueOf(response.statusCode());
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    limiterOutcome = isThrottled(response.statusCode()) ? LlmTrafficLimiter.Outcome.THROTTLED : LlmTrafficLimiter.Outcome.FAILED;
+                    throw new ServiceException("Perplexity stream failed with status " + response.statusCode(), "INTERNAL_ERROR");
+                }
+                Iterator<String> iterator = lines.iterator();
+                while (iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (!line.startsWith("data:")) {
+                        continue;
+                    }
+                    String data = line.substring(5).trim();
+                    if ("[DONE]".equals(data)) {
+                        break;
+                    }
+                    onData.accept(data);
+                }
+            }
+            limiterOutcome = LlmTrafficLimiter.Outcome.SUCCESS;
+        } finally {
+            inFlight.decrementAndGet();
+            trafficLimiter.release(limiterOutcome);
+            sample.stop(meterRegistry.timer("perplexity.http.requests", "status", outcome, "mode", "stream"));
+        }
+    }
+
+    private HttpResponse<String> execute(String requestBody) throws IOException, InterruptedException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        String outcome = "error";
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(buildRequest(requestBody), HttpResponse.BodyHandlers.ofString());
+            outcome = String.valueOf(response.statusCode());
+            recordLatency(response.statusCode(), System.nanoTime() - start);
+            return response;
+        } finally {
+            inFlight.decrementAndGet();
+            sample.stop(meterRegistry.timer("perplexity.http.requests", "status", outcome, "mode", "blocking"));
+        }
+    }
+
+    /**
+     * Starts one attempt that already holds limiter capacity and gives it back when the attempt ends. The
+     * returned future is the client's own, so cancelling it aborts the exchange.
+     */
+    private CompletableFuture<HttpResponse<String>> executeAsync(String requestBody) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> future = httpClient.sendAsync(buildRequest(requestBody), HttpResponse.BodyHandlers.ofString());
+        future.whenComplete((response, error) -> {
+            inFlight.decrementAndGet();
+            String outcome;
+            if (response != null) {
+                outcome = String.valueOf(response.statusCode());
+                recordLatency(response.statusCode(), System.nanoTime() - start);
+                trafficLimiter.release(isThrottled(response.statusCode()) ? LlmTrafficLimiter.Outcome.THROTTLED : LlmTrafficLimiter.Outcome.SUCCESS);
+            } else if (error instanceof CancellationException) {
+                outcome = "cancelled";
+                trafficLimiter.release(LlmTrafficLimiter.Outcome.FAILED);
+            } else {
+                outcome = "error";
+                trafficLimiter.release(LlmTrafficLimiter.Outcome.FAILED);
+            }
+            sample.stop(meterRegistry.timer("perplexity.http.requests", "status", outcome, "mode", "hedged"));
+        });
+        return future;
+    }
+
+    /**
+     * Completes with the first answer that is not a 429/5xx; if neither attempt gives one, with the last outcome.
+     */
+    private static CompletableFuture<HttpResponse<String>> firstUsable(CompletableFuture<HttpResponse<String>> primary,
+                                                                       CompletableFuture<HttpResponse<String>> hedge) {
+        CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        for (CompletableFuture<HttpResponse<String>> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((response, error) -> {
+                if (response != null && !isThrottled(response.statusCode())) {
+                    result.complete(response);
+                } else if (pending.decrementAndGet() == 0) {
+                    if (response != null) {
+                        result.complete(response);
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Gives the breaker the verdict on a call. A 5xx is a failure, anything else below 500 a success, except a
+     * 429: that is the API pacing us, which the limiter handles, and says nothing about the API's health, so
+     * it counts neither way and a half-open probe that gets one is handed back.
+     */
+    private void recordOutcome(int statusCode, long durationNanos) {
+        if (statusCode == 429) {
+            circuitBreaker.onIgnored();
+        } else {
+            circuitBreaker.onResult(statusCode < 500, durationNanos);
+        }
+    }
+
+    private void recordLatency(int statusCode, long durationNanos) {
+        if (statusCode == 200) {
+            latencies.record(durationNanos);
+        }
+    }
+
+    private long hedgeDelayNanos() {
+        if (!hedgeEnabled || latencies.size() < hedgeMinSamples) {
+            return 0;
+        }
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMs), latencies.percentile(0.95));
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private long retryAfterNanos(HttpResponse<String> response, int attempt) {
+        Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+        if (retryAfter.isPresent()) {
+            try {
+                return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.get().trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring non numeric Retry-After header : {}", retryAfter.get());
+            }
+        }
+        return TimeUnit.MILLISECONDS.toNanos(retryBackoffMs << attempt);
+    }
+
+    /**
+     * The answer a send ends with and how long that attempt took.
+     */
+    private record Attempt(HttpResponse<String> response, long nanos) {
+    }
+
+    private HttpRequest buildRequest(String requestBody) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(API_ENDPOINT))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.screening.profile.service.profile;
+
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.service.backfill.BackfillChunk;
+import com.screening.profile.service.backfill.ChunkedBackfill;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Builds resume profiles for candidates saved before profiles existed. Counts the profiles written in
+ * {@code resume.profile.backfill}.
+ */
+@Component
+public class ResumeProfileBackfill extends ChunkedBackfill {
+
+    private final ResumeProfileService resumeProfileService;
+    private final CandidateRepository candidateRepository;
+
+    public ResumeProfileBackfill(ResumeProfileService resumeProfileService, CandidateRepository candidateRepository, MeterRegistry meterRegistry,
+                                 @Value("${profile.backfill.enabled:true}") boolean enabled,
+                                 @Value("${profile.backfill.chunk-size:200}") int chunkSize,
+                                 @Value("${profile.backfill.pause-ms:100}") long pauseMs) {
+        super("profile", meterRegistry, "resume.profile.backfill", enabled, chunkSize, pauseMs);
+        this.resumeProfileService = resumeProfileService;
+        this.candidateRepository = candidateRepository;
+    }
+
+    @Override
+    protected BackfillChunk backfill(long afterId, int chunkSize) {
+        return resumeProfileService.backfill(afterId, chunkSize);
+    }
+
+    @Override
+    protected Long lastId(long afterId, int chunkSize) {
+        List<CandidateRepository.ProfileSource> rows = candidateRepository.findWithoutProfile(afterId, PageRequest.of(0, chunkSize));
+        return rows.isEmpty() ? null : rows.get(rows.size() - 1).getId();
+    }
+}
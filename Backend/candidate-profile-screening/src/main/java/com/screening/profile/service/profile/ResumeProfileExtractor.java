@@ -0,0 +1,214 @@
+package com.screening.profile.service.profile;
+
+import com.screening.profile.model.ResumeProfile;
+import com.screening.profile.util.ExtractorHelperUtils;
+import org.springframework.stereotype.Component;
+
+import java.text.Collator;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds a {@link ResumeProfile} from resume text with the same section and contact heuristics as
+ * {@link ExtractorHelperUtils}. Skills come from the skills sections, institutes from the education section
+ * (the whole text when there is none), and experience from a stated "N years of experience" or, failing that,
+ * from the year ranges under the experience sections.
+ */
+@Component
+public class ResumeProfileExtractor {
+
+    private static final Set<String> SKILL_SECTIONS = Set.of("SKILLS", "TECHNICAL SKILLS");
+    private static final Set<String> EXPERIENCE_SECTIONS = Set.of("EXPERIENCE", "WORK EXPERIENCE");
+    private static final String EDUCATION_SECTION = "EDUCATION";
+
+    private static final Pattern SKILL_SPLIT = Pattern.compile("[,;|•·\\n]+");
+    private static final Pattern BULLET = Pattern.compile("^[-*•·▪◦]+\\s*");
+    private static final Pattern STATED_YEARS = Pattern.compile(
+            "(\\d{1,2}(?:\\.\\d)?)\\s*\\+?\\s*(?:years?|yrs?)\\b[^.\\n]{0,40}?\\bexperience", Pattern.CASE_INSENSITIVE);
+    private static final Pattern YEAR_RANGE = Pattern.compile(
+            "\\b((?:19|20)\\d{2})\\s*(?:-|–|—|to)\\s*((?:19|20)\\d{2}|present|current|now|date)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Map<String, String> SKILL_ALIASES = Map.ofEntries(
+            Map.entry("springboot", "spring boot"),
+            Map.entry("spring-boot", "spring boot"),
+            Map.entry("js", "javascript"),
+            Map.entry("ts", "typescript"),
+            Map.entry("k8s", "kubernetes"),
+            Map.entry("postgres", "postgresql"),
+            Map.entry("golang", "go"),
+            Map.entry("nodejs", "node.js"),
+            Map.entry("node", "node.js"),
+            Map.entry("reactjs", "react"),
+            Map.entry("react.js", "react"),
+            Map.entry("ms excel", "excel"),
+            Map.entry("amazon web services", "aws"),
+            Map.entry("rest api", "rest apis"),
+            Map.entry("restful apis", "rest apis")
+    );
+
+    private static final int MAX_SKILL_LENGTH = 64;
+    private static final int MAX_SKILL_WORDS = 4;
+    private static final int MAX_INSTITUTES = 5;
+    private static final int MAX_INSTITUTE_WORDS = 12;
+    private static final int MAX_INSTITUTE_LENGTH = 255;
+    private static final int MAX_SECTIONS_LENGTH = 512;
+    private static final double MAX_YEARS = 50;
+
+    public ResumeProfile extract(Long candidateId, String resumeText, String email, String phoneNumber) {
+        Map<String, List<String>> sections = sectionLines(resumeText);
+
+        ResumeProfile profile = new ResumeProfile();
+        profile.setCandidateId(candidateId);
+        profile.setSections(truncate(String.join(",", ExtractorHelperUtils.extractSections(resumeText)), MAX_SECTIONS_LENGTH));
+        profile.setSkills(skills(sections));
+        profile.setInstitutes(institutes(sections.getOrDefault(EDUCATION_SECTION, List.of(resumeText.split("\\R")))));
+        profile.setYearsOfExperience(yearsOfExperience(resumeText, sections));
+
+        String profileEmail = email != null && !email.isBlank() ? email : ExtractorHelperUtils.extractEmail(resumeText);
+        profile.setEmail(profileEmail != null ? profileEmail.trim().toLowerCase(Locale.ROOT) : null);
+        String phone = phoneNumber != null && !phoneNumber.isBlank() ? phoneNumber : ExtractorHelperUtils.extractPhone(resumeText);
+        profile.setPhoneNumber(phone != null ? ExtractorHelperUtils.formatPhoneNumber(phone) : null);
+        profile.setCreatedAt(LocalDateTime.now());
+        return profile;
+    }
+
+    /**
+     * Lower case with whitespace collapsed, bullets and trailing full stops dropped and common aliases folded,
+     * so "Spring-Boot" and "springboot" are the same skill. Returns {@code null} for what does not look like a
+     * skill: no letters, or longer than a few words.
+     */
+    public static String normalizeSkill(String raw) {
+        String skill = BULLET.matcher(raw.strip()).replaceFirst("").toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        while (skill.endsWith(".")) {
+            skill = skill.substring(0, skill.length() - 1);
+        }
+        skill = SKILL_ALIASES.getOrDefault(skill.strip(), skill.strip());
+        if (skill.isEmpty() || skill.length() > MAX_SKILL_LENGTH || skill.split(" ").length > MAX_SKILL_WORDS
+                || skill.chars().noneMatch(Character::isLetter)) {
+            return null;
+        }
+        return skill;
+    }
+
+    /**
+     * Lines of the text under each section header, keyed by the normalized header.
+     */
+    private static Map<String, List<String>> sectionLines(String text) {
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        List<String> current = null;
+        for (String line : text.split("\\R")) {
+            if (ExtractorHelperUtils.isSectionHeader(line)) {
+                current = sections.computeIfAbsent(ExtractorHelperUtils.normalizeHeader(line), header -> new ArrayList<>());
+            } else if (current != null && !line.isBlank()) {
+                current.add(line);
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * A line such as "Languages: Java, Python" contributes what follows its label.
+     */
+    private static Set<String> skills(Map<String, List<String>> sections) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String header : SKILL_SECTIONS) {
+            for (String line : sections.getOrDefault(header, List.of())) {
+                int colon = line.indexOf(':');
+                String values = colon >= 0 ? line.substring(colon + 1) : line;
+                for (String raw : SKILL_SPLIT.split(values)) {
+                    String skill = normalizeSkill(raw);
+                    if (skill != null) {
+                        skills.add(skill);
+                    }
+                }
+            }
+        }
+        return skills;
+    }
+
+    /**
+     * Names are told apart the way the table's key compares them: MySQL's default collation ignores case, accents
+     * and trailing spaces, so "MIT" and "mit" are one institute.
+     */
+    private static Set<String> institutes(List<String> lines) {
+        Collator collation = Collator.getInstance(Locale.ROOT);
+        collation.setStrength(Collator.PRIMARY);
+        Set<String> seen = new TreeSet<>(collation);
+        Set<String> institutes = new LinkedHashSet<>();
+        for (String line : lines) {
+            String institute = BULLET.matcher(line.strip()).replaceFirst("");
+            if (!institute.isEmpty() && ExtractorHelperUtils.isInstitute(institute)
+                    && institute.split("\\s+").length <= MAX_INSTITUTE_WORDS) {
+                String name = truncate(institute, MAX_INSTITUTE_LENGTH).strip();
+                if (seen.add(name)) {
+                    institutes.add(name);
+                }
+                if (institutes.size() == MAX_INSTITUTES) {
+                    break;
+                }
+            }
+        }
+        return institutes;
+    }
+
+    /**
+     * Year ranges are merged before they are added up, so overlapping roles are not counted twice.
+     */
+    private static Double yearsOfExperience(String text, Map<String, List<String>> sections) {
+        double stated = -1;
+        Matcher matcher = STATED_YEARS.matcher(text);
+        while (matcher.find()) {
+            double years = Double.parseDouble(matcher.group(1));
+            if (years <= MAX_YEARS) {
+                stated = Math.max(stated, years);
+            }
+        }
+        if (stated >= 0) {
+            return stated;
+        }
+        int currentYear = Year.now().getValue();
+        List<int[]> ranges = new ArrayList<>();
+        for (String header : EXPERIENCE_SECTIONS) {
+            for (String line : sections.getOrDefault(header, List.of())) {
+                Matcher range = YEAR_RANGE.matcher(line);
+                while (range.find()) {
+                    int from = Integer.parseInt(range.group(1));
+                    int to = Character.isDigit(range.group(2).charAt(0)) ? Integer.parseInt(range.group(2)) : currentYear;
+                    if (from <= to && to <= currentYear) {
+                        ranges.add(new int[]{from, to});
+                    }
+                }
+            }
+        }
+        if (ranges.isEmpty()) {
+            return null;
+        }
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int total = 0;
+        int start = ranges.get(0)[0];
+        int end = ranges.get(0)[1];
+        for (int[] range : ranges) {
+            if (range[0] > end) {
+                total += end - start;
+                start = range[0];
+            }
+            end = Math.max(end, range[1]);
+        }
+        total += end - start;
+        return (double) Math.min(total, MAX_YEARS);
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length);
+    }
+}
@@ -0,0 +1,29 @@
+package com.screening.profile.service.profile;
+
+import com.screening.profile.model.Candidate;
+import com.screening.profile.service.backfill.BackfillChunk;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface ResumeProfileService {
+
+    /**
+     * Extracts and stores the candidate's profile after the caller's transaction commits. A resume the extractor
+     * fails on, or a profile that cannot be written, is logged and left without one for the backfill to retry.
+     */
+    void saveProfile(Candidate candidate);
+    void saveProfiles(List<Candidate> candidates);
+
+    /**
+     * The candidates among {@code candidateIds} whose profile lists every one of {@code skills} and, when
+     * {@code minYears} is set, at least that much experience. Candidates without a profile never match.
+     */
+    Set<Long> filterCandidateIds(Collection<Long> candidateIds, Collection<String> skills, Double minYears);
+
+    /**
+     * Builds profiles for up to {@code chunkSize} candidates after {@code afterId} that have none yet.
+     */
+    BackfillChunk backfill(Long afterId, int chunkSize);
+}
@@ -0,0 +1,132 @@
+package com.screening.profile.service.profile.impl;
+
+import com.screening.profile.model.Candidate;
+import com.screening.profile.model.ResumeProfile;
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.repository.ResumeProfileRepository;
+import com.screening.profile.service.backfill.BackfillChunk;
+import com.screening.profile.service.profile.ResumeProfileExtractor;
+import com.screening.profile.service.profile.ResumeProfileService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class ResumeProfileServiceImpl implements ResumeProfileService {
+
+    private final ResumeProfileRepository resumeProfileRepository;
+    private final CandidateRepository candidateRepository;
+    private final ResumeProfileExtractor extractor;
+    private final TransactionTemplate ownTransaction;
+
+    public ResumeProfileServiceImpl(ResumeProfileRepository resumeProfileRepository, CandidateRepository candidateRepository,
+                                    ResumeProfileExtractor extractor, PlatformTransactionManager transactionManager) {
+        this.resumeProfileRepository = resumeProfileRepository;
+        this.candidateRepository = candidateRepository;
+        this.extractor = extractor;
+        this.ownTransaction = new TransactionTemplate(transactionManager);
+        this.ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void saveProfile(Candidate candidate) {
+        saveProfiles(List.of(candidate));
+    }
+
+    /**
+     * The profiles reference the candidates, so they are written once the caller's transaction has committed,
+     * in a transaction of their own; a profile that cannot be written then only loses itself, never the candidates.
+     */
+    @Override
+    public void saveProfiles(List<Candidate> candidates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(candidates);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write(candidates);
+            }
+        });
+    }
+
+    private void write(List<Candidate> candidates) {
+        List<ResumeProfile> profiles = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            ResumeProfile profile = extract(candidate.getId(), candidate.getResumeText(), candidate.getEmail(), candidate.getPhoneNumber());
+            if (profile != null) {
+                profiles.add(profile);
+            }
+        }
+        if (profiles.isEmpty()) {
+            return;
+        }
+        try {
+            ownTransaction.executeWithoutResult(status -> resumeProfileRepository.saveAll(profiles));
+        } catch (RuntimeException e) {
+            log.warn("Could not save {} resume profiles, the backfill will build them : {}", profiles.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<Long> filterCandidateIds(Collection<Long> candidateIds, Collection<String> skills, Double minYears) {
+        if (candidateIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        if (skills != null) {
+            skills.stream().map(ResumeProfileExtractor::normalizeSkill).filter(Objects::nonNull).forEach(normalized::add);
+        }
+        if (normalized.isEmpty()) {
+            return minYears == null ? new HashSet<>(candidateIds)
+                    : new HashSet<>(resumeProfileRepository.findCandidateIdsWithExperience(candidateIds, minYears));
+        }
+        return new HashSet<>(resumeProfileRepository.findCandidateIdsWithSkills(candidateIds, normalized, normalized.size(), minYears));
+    }
+
+    @Override
+    @Transactional
+    public BackfillChunk backfill(Long afterId, int chunkSize) {
+        List<CandidateRepository.ProfileSource> sources = candidateRepository.findWithoutProfile(afterId, PageRequest.of(0, chunkSize));
+        if (sources.isEmpty()) {
+            return BackfillChunk.done();
+        }
+        List<ResumeProfile> profiles = new ArrayList<>(sources.size());
+        for (CandidateRepository.ProfileSource source : sources) {
+            ResumeProfile profile = extract(source.getId(), source.getResumeText(), source.getEmail(), source.getPhoneNumber());
+            if (profile != null) {
+                profiles.add(profile);
+            }
+        }
+        resumeProfileRepository.saveAll(profiles);
+        return new BackfillChunk(profiles.size(), sources.get(sources.size() - 1).getId());
+    }
+
+    private ResumeProfile extract(Long candidateId, String resumeText, String email, String phoneNumber) {
+        if (candidateId == null || resumeText == null || resumeText.isBlank()) {
+            return null;
+        }
+        try {
+            return extractor.extract(candidateId, resumeText, email, phoneNumber);
+        } catch (RuntimeException e) {
+            log.warn("Could not build a resume profile for candidate {} : {}", candidateId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.screening.profile.service.scoring;
+
+import com.screening.profile.model.Job;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything screening needs from a job, built once per job rather than per resume: the entity, the job
+ * description and skills fragment the prompts and cache keys use, and the required skills and description
+ * vocabulary already tokenized. Instances are shared between threads and must not be changed, including the job.
+ *
+ * @param job null when the job does not exist
+ */
+public record JobScreeningContext(Job job, String jobDescriptionWithSkills, List<RequiredSkill> requiredSkills,
+                                  Set<String> descriptionTerms) {
+
+    private static final JobScreeningContext MISSING = new JobScreeningContext(null, "", List.of(), Set.of());
+
+    /**
+     * A required skill as written on the job and as the tokens it has to match in a resume.
+     */
+    public record RequiredSkill(String name, List<String> tokens) {
+    }
+
+    public static JobScreeningContext of(Job job) {
+        if (job == null) {
+            return MISSING;
+        }
+        String jobDescriptionWithSkills = job.getDescription() + " Requrired Skills : " + job.getRequiredSkills();
+
+        List<RequiredSkill> requiredSkills = new ArrayList<>();
+        if (job.getRequiredSkills() != null) {
+            for (String skill : SkillTokens.SKILL_SPLIT.split(job.getRequiredSkills())) {
+                List<String> tokens = SkillTokens.tokenize(skill);
+                if (!skill.isBlank() && !tokens.isEmpty()) {
+                    requiredSkills.add(new RequiredSkill(skill.trim(), List.copyOf(tokens)));
+                }
+            }
+        }
+
+        Set<String> descriptionTerms = new LinkedHashSet<>();
+        if (job.getDescription() != null) {
+            for (String token : SkillTokens.tokenize(job.getDescription())) {
+                if (token.length() > 3 && !SkillTokens.STOP_WORDS.contains(token)) {
+                    descriptionTerms.add(token);
+                }
+            }
+        }
+        return new JobScreeningContext(job, jobDescriptionWithSkills, List.copyOf(requiredSkills),
+                Collections.unmodifiableSet(descriptionTerms));
+    }
+
+    public static JobScreeningContext missing() {
+        return MISSING;
+    }
+}
@@ -0,0 +1,102 @@
+package com.screening.profile.service.scoring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.screening.profile.model.Candidate;
+import com.screening.profile.util.ExtractorHelperUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process scorer used when no LLM is configured, when it fails, or when a job asks for it. Required skills
+ * are matched as whole token sequences against the resume; the score weights skill coverage over overlap with
+ * the job description's own vocabulary.
+ */
+@Component
+public class LocalScoringEngine implements ScoringEngine {
+
+    private static final double SKILL_WEIGHT = 0.7;
+    private static final double DESCRIPTION_WEIGHT = 0.3;
+
+    private static final Pattern YEARS = Pattern.compile("(\\d{1,2})\\s*\\+?\\s*(?:years|yrs)", Pattern.CASE_INSENSITIVE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public String score(ScoringRequest request) throws JsonProcessingException {
+        String resumeText = request.resumeText() == null ? "" : request.resumeText();
+        List<String> resumeTokens = SkillTokens.tokenize(resumeText);
+        Set<String> resumeTokenSet = new HashSet<>(resumeTokens);
+        String resumePhrases = " " + String.join(" ", resumeTokens) + " ";
+
+        List<String> matchedSkills = new ArrayList<>();
+        List<String> missingSkills = new ArrayList<>();
+        for (JobScreeningContext.RequiredSkill skill : request.context().requiredSkills()) {
+            List<String> skillTokens = skill.tokens();
+            boolean matched = skillTokens.size() == 1
+                    ? resumeTokenSet.contains(skillTokens.get(0))
+                    : resumePhrases.contains(" " + String.join(" ", skillTokens) + " ");
+            (matched ? matchedSkills : missingSkills).add(skill.name());
+        }
+
+        Set<String> descriptionTerms = request.context().descriptionTerms();
+        long descriptionHits = descriptionTerms.stream().filter(resumeTokenSet::contains).count();
+
+        int requiredCount = matchedSkills.size() + missingSkills.size();
+        double skillCoverage = requiredCount == 0 ? 0 : (double) matchedSkills.size() / requiredCount;
+        double descriptionCoverage = descriptionTerms.isEmpty() ? 0 : (double) descriptionHits / descriptionTerms.size();
+        double score = requiredCount == 0
+                ? descriptionCoverage * 100
+                : (SKILL_WEIGHT * skillCoverage + DESCRIPTION_WEIGHT * descriptionCoverage) * 100;
+        score = Math.round(score * 100) / 100.0;
+
+        Integer years = estimateYears(resumeText);
+        String summary = String.format(Locale.ROOT,
+                "Local evaluation: matched %d of %d required skills%s.",
+                matchedSkills.size(), requiredCount,
+                years != null ? ", about " + years + " years of experience mentioned" : "");
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.putPOJO("matchedSkills", matchedSkills);
+        result.putPOJO("missingSkills", missingSkills);
+        result.put("score", score);
+        result.put("summary", summary);
+        if (request.includeContactDetails()) {
+            String email = ExtractorHelperUtils.extractEmail(resumeText);
+            String phone = ExtractorHelperUtils.extractPhone(resumeText);
+            Candidate contact = new Candidate();
+            contact.setEmail(email);
+            contact.setPhoneNumber(phone);
+            String name = ExtractorHelperUtils.extractName(resumeText, contact);
+            result.put("name", name != null ? name : "");
+            result.put("email", email != null ? email : "");
+            result.put("phoneNumber", phone != null ? phone : "");
+        }
+        return objectMapper.writeValueAsString(result);
+    }
+
+    private static Integer estimateYears(String text) {
+        Matcher matcher = YEARS.matcher(text);
+        Integer max = null;
+        while (matcher.find()) {
+            int years = Integer.parseInt(matcher.group(1));
+            if (years <= 50 && (max == null || years > max)) {
+                max = years;
+            }
+        }
+        return max;
+    }
+}
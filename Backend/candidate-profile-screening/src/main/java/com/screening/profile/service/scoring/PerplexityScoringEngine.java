@@ -0,0 +1,157 @@
+package com.screening.profile.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.service.llm.PerplexityClient;
+import com.screening.profile.util.matcher.ScreeningResult;
+import com.screening.profile.util.matcher.ScreeningResultDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class PerplexityScoringEngine implements ScoringEngine {
+
+    // Cache versions also carry ResumeCompactor#getVersion, the prompts embed the compacted resume
+    private static final String SINGLE_PROMPT_VERSION = "single-v2";
+    private static final String BULK_PROMPT_VERSION = "bulk-v2";
+    private static final String BATCH_PROMPT_VERSION = "bulk-batch-v1";
+
+    private static final String SINGLE_SYSTEM_PROMPT = "You are an AI job screening assistant. Compare the following resume and job description, and output a JSON with fields matchedSkills (list), missingSkills (list), score (double 0-100 with 2 digit precision in percentage), and summary (one line). In the summary also include the years of work experience matching with the job description and the work experience mentioned in resume which will not be explicitly mentioned";
+
+    private static final String BULK_SYSTEM_PROMPT = "You are an AI job screening assistant. Compare the following resume with the job description provided, and output a JSON with fields matchedSkills (list), missingSkills (list), score (double 0-100 with 2 digit precision in percentage),name, email, phoneNumber and summary (one line). You must output ONLY a valid JSON object. Do not include explanations, Markdown, or code fences. In the summary also include the years of work experience that matches with the job description.";
+
+    private static final String BATCH_SYSTEM_PROMPT = "You are an AI job screening assistant. You will receive one job description followed by several resumes, each introduced by \"Resume #<index>:\". Compare every resume with the job description and output ONLY a valid JSON array with exactly one object per resume. Each object must have the fields index (the resume number), matchedSkills (list), missingSkills (list), score (double 0-100 with 2 digit precision in percentage), name, email, phoneNumber and summary (one line). Do not include explanations, Markdown, or code fences. In the summary also include the years of work experience that matches with the job description.";
+
+    @Value("${perplexity.enabled:true}")
+    private boolean enabled;
+
+    private final PerplexityClient perplexityClient;
+    private final ResumeCompactor resumeCompactor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PerplexityScoringEngine(PerplexityClient perplexityClient, ResumeCompactor resumeCompactor) {
+        this.perplexityClient = perplexityClient;
+        this.resumeCompactor = resumeCompactor;
+    }
+
+    @Override
+    public String getName() {
+        return "perplexity";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return enabled && perplexityClient.hasApiKey();
+    }
+
+    @Override
+    public String getCacheVersion(boolean includeContactDetails) {
+        return (includeContactDetails ? BULK_PROMPT_VERSION : SINGLE_PROMPT_VERSION) + "/" + resumeCompactor.getVersion();
+    }
+
+    /**
+     * Version tag for results taken from a {@link #scoreBatch} answer, which come from a different prompt than
+     * single resume bulk scoring.
+     */
+    public String getBatchCacheVersion() {
+        return BATCH_PROMPT_VERSION + "/" + resumeCompactor.getVersion();
+    }
+
+    @Override
+    public String score(ScoringRequest request) throws IOException, InterruptedException {
+        ResumeCompactor.Compaction resume = resumeCompactor.compact(request.resumeText());
+        log.info("Resume compacted from {} to {} tokens", resume.originalTokens(), resume.compactedTokens());
+        List<Map<String, String>> messages = new ArrayList<>();
+        messages.add(Map.of(
+                "role", "system",
+                "content", request.includeContactDetails() ? BULK_SYSTEM_PROMPT : SINGLE_SYSTEM_PROMPT
+        ));
+        messages.add(Map.of(
+                "role", "user",
+                "content", String.format("Resume: %s\nJob Description: %s", resume.text(), request.jobDescriptionWithSkills())
+        ));
+
+        String payload = objectMapper.writeValueAsString(buildPayload(messages, 500));
+        HttpResponse<String> response = request.interactive() ? perplexityClient.sendHedged(payload) : perplexityClient.sendInBackground(payload);
+        if (response.statusCode() != 200) {
+            throw new ServiceException("Perplexity API returned status " + response.statusCode(), String.valueOf(response.statusCode()));
+        }
+        String content = extractContent(response.body());
+        if (content == null) {
+            throw new ServiceException("Invalid response structure from Perplexity API", String.valueOf(response.statusCode()));
+        }
+        return content;
+    }
+
+    /**
+     * Scores several resumes against one copy of the job description. The returned array is aligned with
+     * {@code resumeTexts}; entries the model left out or got wrong are {@code null} so callers can retry them alone.
+     */
+    public ScreeningResult[] scoreBatch(List<String> resumeTexts, String jobDescriptionWithSkills) throws IOException, InterruptedException {
+        StringBuilder userContent = new StringBuilder("Job Description: ").append(jobDescriptionWithSkills);
+        for (int i = 0; i < resumeTexts.size(); i++) {
+            userContent.append("\n\nResume #").append(i).append(":\n").append(resumeCompactor.compact(resumeTexts.get(i)).text());
+        }
+        List<Map<String, String>> messages = List.of(
+                Map.of("role", "system", "content", BATCH_SYSTEM_PROMPT),
+                Map.of("role", "user", "content", userContent.toString())
+        );
+
+        HttpResponse<String> response = perplexityClient.sendInBackground(objectMapper.writeValueAsString(buildPayload(messages, 500 * resumeTexts.size())));
+        String content = response.statusCode() == 200 ? extractContent(response.body()) : null;
+        if (content == null) {
+            log.warn("Batched scoring returned no content, status {}", response.statusCode());
+            return new ScreeningResult[resumeTexts.size()];
+        }
+        ScreeningResult[] results = ScreeningResultDecoder.decodeBatch(content, resumeTexts.size());
+        long missing = Arrays.stream(results).filter(r -> r == null).count();
+        if (missing > 0) {
+            log.warn("Batched scoring left {} of {} resumes unanswered", missing, results.length);
+        }
+        return results;
+    }
+
+    public static int batchOverheadTokens(String jobDescriptionWithSkills) {
+        return ResumeCompactor.estimateTokens(BATCH_SYSTEM_PROMPT) + ResumeCompactor.estimateTokens(jobDescriptionWithSkills);
+    }
+
+    public int promptTokens(String resumeText) {
+        return resumeCompactor.compact(resumeText).compactedTokens();
+    }
+
+    private Map<String, Object> buildPayload(List<Map<String, String>> messages, int maxTokens) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("model", "sonar-pro");
+        payload.put("max_tokens", maxTokens);
+        payload.put("temperature", 0.7);
+        payload.put("messages", messages);
+        return payload;
+    }
+
+    private String extractContent(String responseBody) throws IOException {
+        JsonNode rootNode = objectMapper.readTree(responseBody);
+        JsonNode choices = rootNode.get("choices");
+        if (choices != null && choices.isArray() && !choices.isEmpty()) {
+            JsonNode firstChoice = choices.get(0);
+            JsonNode message = firstChoice.get("message");
+            if (message != null) {
+                JsonNode contentNode = message.get("content");
+                if (contentNode != null) {
+                    return contentNode.asText();
+                }
+            }
+        }
+        return null;
+    }
+}
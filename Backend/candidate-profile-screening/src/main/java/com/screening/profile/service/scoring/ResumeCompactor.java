@@ -0,0 +1,178 @@
+package com.screening.profile.service.scoring;
+
+import com.screening.profile.util.ExtractorHelperUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Shrinks extracted resume text before it is embedded in a prompt: whitespace is normalized, repeated lines
+ * (page headers/footers), page numbers and boilerplate are dropped, and if the text is still over the token
+ * budget whole sections are kept in priority order (skills, experience, summary, ...) with the last one cut
+ * line by line. Kept sections stay in their original order.
+ */
+@Slf4j
+@Component
+public class ResumeCompactor {
+
+    private static final Pattern PAGE_NUMBER = Pattern.compile("^(page\\s*)?\\d{1,3}(\\s*(of|/)\\s*\\d{1,3})?$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern BOILERPLATE = Pattern.compile(
+            "^(curriculum vitae|resume|résumé|cv|references( are)? available (up)?on request\\.?|declaration:?)$", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Lower value is kept first; the untitled block before the first header holds name and contact details
+    private static final int PREAMBLE_PRIORITY = 0;
+    private static final int DEFAULT_PRIORITY = 7;
+    private static final Map<String, Integer> SECTION_PRIORITY = Map.of(
+            "TECHNICAL SKILLS", 1,
+            "SKILLS", 1,
+            "WORK EXPERIENCE", 2,
+            "EXPERIENCE", 2,
+            "PROFESSIONAL SUMMARY", 3,
+            "SUMMARY", 3,
+            "PROJECTS", 4,
+            "EDUCATION", 5,
+            "OBJECTIVE", 6
+    );
+
+    // Part of the scoring cache version; bump when compact() changes what it keeps
+    private static final String COMPACTION_VERSION = "c1";
+
+    private final boolean enabled;
+    private final int tokenBudget;
+    private final DistributionSummary tokensBefore;
+    private final DistributionSummary tokensAfter;
+
+    public ResumeCompactor(MeterRegistry meterRegistry,
+                           @Value("${perplexity.compaction.enabled:true}") boolean enabled,
+                           @Value("${perplexity.compaction.token-budget:1500}") int tokenBudget) {
+        this.enabled = enabled;
+        this.tokenBudget = tokenBudget;
+        this.tokensBefore = meterRegistry.summary("resume.compaction.tokens", "stage", "before");
+        this.tokensAfter = meterRegistry.summary("resume.compaction.tokens", "stage", "after");
+    }
+
+    /**
+     * Identifies the text {@link #compact} produces under the current settings, so results scored on compacted
+     * text are not served for another budget or for the full text.
+     */
+    public String getVersion() {
+        return enabled ? COMPACTION_VERSION + "-" + tokenBudget : "full";
+    }
+
+    public static int estimateTokens(String text) {
+        // Roughly four characters per token for English prose
+        return text == null ? 0 : text.length() / 4 + 1;
+    }
+
+    public Compaction compact(String resumeText) {
+        String original = resumeText == null ? "" : resumeText;
+        if (!enabled) {
+            return new Compaction(original, original.length(), original.length());
+        }
+
+        List<Section> sections = new ArrayList<>();
+        Section current = new Section(0, PREAMBLE_PRIORITY);
+        Set<String> seen = new HashSet<>();
+        for (String rawLine : original.split("\\r?\\n")) {
+            String line = WHITESPACE.matcher(rawLine).replaceAll(" ").trim();
+            if (line.isEmpty() || PAGE_NUMBER.matcher(line).matches() || BOILERPLATE.matcher(line).matches()) {
+                continue;
+            }
+            if (!seen.add(line.toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            if (ExtractorHelperUtils.isSectionHeader(line)) {
+                if (!current.lines.isEmpty()) {
+                    sections.add(current);
+                }
+                String header = line.toUpperCase(Locale.ROOT).replace(":", "").trim();
+                current = new Section(sections.size(), SECTION_PRIORITY.getOrDefault(header, DEFAULT_PRIORITY));
+            }
+            current.add(line);
+        }
+        if (!current.lines.isEmpty()) {
+            sections.add(current);
+        }
+
+        int total = sections.stream().mapToInt(section -> section.tokens).sum();
+        if (total > tokenBudget) {
+            int remaining = tokenBudget;
+            List<Section> byPriority = new ArrayList<>(sections);
+            byPriority.sort(Comparator.comparingInt((Section section) -> section.priority).thenComparingInt(section -> section.order));
+            for (Section section : byPriority) {
+                if (section.tokens <= remaining) {
+                    remaining -= section.tokens;
+                    continue;
+                }
+                remaining -= section.truncate(remaining);
+            }
+        }
+
+        StringBuilder compacted = new StringBuilder(original.length() / 2 + 16);
+        for (Section section : sections) {
+            for (String line : section.lines) {
+                compacted.append(line).append('\n');
+            }
+        }
+        String text = compacted.toString();
+        tokensBefore.record(estimateTokens(original));
+        tokensAfter.record(estimateTokens(text));
+        log.debug("Compacted resume from {} to {} chars", original.length(), text.length());
+        return new Compaction(text, original.length(), text.length());
+    }
+
+    public record Compaction(String text, int originalChars, int compactedChars) {
+
+        public int originalTokens() {
+            return originalChars / 4 + 1;
+        }
+
+        public int compactedTokens() {
+            return compactedChars / 4 + 1;
+        }
+    }
+
+    private static final class Section {
+        private final int order;
+        private final int priority;
+        private final List<String> lines = new ArrayList<>();
+        private int tokens;
+
+        private Section(int order, int priority) {
+            this.order = order;
+            this.priority = priority;
+        }
+
+        private void add(String line) {
+            lines.add(line);
+            tokens += estimateTokens(line);
+        }
+
+        /**
+         * Keeps as many leading lines as fit in the budget and returns the tokens they use.
+         */
+        private int truncate(int budget) {
+            int used = 0;
+            int keep = 0;
+            while (keep < lines.size() && used + estimateTokens(lines.get(keep)) <= budget) {
+                used += estimateTokens(lines.get(keep));
+                keep++;
+            }
+            lines.subList(keep, lines.size()).clear();
+            tokens = used;
+            return used;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.screening.profile.service.scoring;
+
+import java.io.IOException;
+
+/**
+ * Scores one resume against a job. Implementations return the same JSON contract the LLM prompts ask for:
+ * matchedSkills, missingSkills, score and summary, plus name, email and phoneNumber when
+ * {@link ScoringRequest#includeContactDetails()} is set.
+ */
+public interface ScoringEngine {
+
+    String getName();
+
+    String score(ScoringRequest request) throws IOException, InterruptedException;
+
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Version tag used for result caching, or {@code null} when results are cheap enough not to cache.
+     */
+    default String getCacheVersion(boolean includeContactDetails) {
+        return null;
+    }
+}
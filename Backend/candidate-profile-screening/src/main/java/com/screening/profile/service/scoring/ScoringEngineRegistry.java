@@ -0,0 +1,56 @@
+package com.screening.profile.service.scoring;
+
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.model.Job;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ScoringEngineRegistry {
+
+    private final Map<String, ScoringEngine> engines;
+    private final LocalScoringEngine localScoringEngine;
+    private final String defaultEngine;
+
+    public ScoringEngineRegistry(List<ScoringEngine> engines, LocalScoringEngine localScoringEngine,
+                                 @Value("${scoring.default-engine:perplexity}") String defaultEngine) {
+        this.engines = engines.stream()
+                .collect(Collectors.toMap(engine -> engine.getName().toLowerCase(Locale.ROOT), Function.identity()));
+        this.localScoringEngine = localScoringEngine;
+        this.defaultEngine = defaultEngine;
+    }
+
+    /**
+     * Picks the engine named on the request, else the one configured on the job, else the default.
+     * An engine that is not available (e.g. no API key) is swapped for the local engine.
+     */
+    public ScoringEngine resolve(String requested, Job job) {
+        String name = requested;
+        if (name == null || name.isBlank()) {
+            name = job != null && job.getScoringEngine() != null && !job.getScoringEngine().isBlank()
+                    ? job.getScoringEngine()
+                    : defaultEngine;
+        }
+        ScoringEngine engine = engines.get(name.trim().toLowerCase(Locale.ROOT));
+        if (engine == null) {
+            throw new ServiceException("Unknown scoring engine : " + name, "INVALID_SCORING_ENGINE");
+        }
+        if (!engine.isAvailable()) {
+            log.info("Scoring engine {} is not available, using {}", engine.getName(), localScoringEngine.getName());
+            return localScoringEngine;
+        }
+        return engine;
+    }
+
+    public ScoringEngine fallback() {
+        return localScoringEngine;
+    }
+}
@@ -0,0 +1,14 @@
+package com.screening.profile.service.scoring;
+
+import com.screening.profile.model.Job;
+
+public record ScoringRequest(String resumeText, JobScreeningContext context, boolean includeContactDetails, boolean interactive) {
+
+    public Job job() {
+        return context.job();
+    }
+
+    public String jobDescriptionWithSkills() {
+        return context.jobDescriptionWithSkills();
+    }
+}
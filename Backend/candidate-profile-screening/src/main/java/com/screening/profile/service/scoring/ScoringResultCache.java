@@ -0,0 +1,152 @@
+package com.screening.profile.service.scoring;
+
+import com.screening.profile.model.ScoringCacheEntry;
+import com.screening.profile.repository.ScoringCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Caches LLM scoring output keyed by a SHA-256 of the normalized resume text, the job description with
+ * its required skills and the prompt version. A bounded in-memory LRU sits in front of the scoring_cache table.
+ */
+@Slf4j
+@Component
+public class ScoringResultCache {
+
+    private final ScoringCacheRepository scoringCacheRepository;
+    private final boolean enabled;
+    private final boolean persistent;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, CachedContent> memory;
+
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    public ScoringResultCache(ScoringCacheRepository scoringCacheRepository, MeterRegistry meterRegistry,
+                              @Value("${perplexity.cache.enabled:true}") boolean enabled,
+                              @Value("${perplexity.cache.persistent:true}") boolean persistent,
+                              @Value("${perplexity.cache.max-entries:1000}") int maxEntries,
+                              @Value("${perplexity.cache.ttl-minutes:1440}") long ttlMinutes) {
+        this.scoringCacheRepository = scoringCacheRepository;
+        this.enabled = enabled;
+        this.persistent = persistent;
+        this.maxEntries = maxEntries;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedContent> eldest) {
+                boolean evict = size() > ScoringResultCache.this.maxEntries;
+                if (evict) {
+                    sizeEvictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.memoryHits = meterRegistry.counter("scoring.cache.hits", "tier", "memory");
+        this.persistentHits = meterRegistry.counter("scoring.cache.hits", "tier", "mysql");
+        this.misses = meterRegistry.counter("scoring.cache.misses");
+        this.sizeEvictions = meterRegistry.counter("scoring.cache.evictions", "cause", "size");
+        this.expiredEvictions = meterRegistry.counter("scoring.cache.evictions", "cause", "expired");
+        meterRegistry.gaugeMapSize("scoring.cache.size", List.of(), memory);
+    }
+
+    public String key(String resumeText, String jobDescriptionWithSkills, String promptVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(normalize(resumeText).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(jobDescriptionWithSkills).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(promptVersion.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (memory) {
+            CachedContent cached = memory.get(key);
+            if (cached != null) {
+                if (!isExpired(cached.createdAt(), now)) {
+                    memoryHits.increment();
+                    return Optional.of(cached.content());
+                }
+                memory.remove(key);
+                expiredEvictions.increment();
+            }
+        }
+        if (persistent) {
+            try {
+                Optional<ScoringCacheEntry> entry = scoringCacheRepository.findById(key);
+                if (entry.isPresent()) {
+                    if (!isExpired(entry.get().getCreatedAt(), now)) {
+                        persistentHits.increment();
+                        remember(key, entry.get().getContent(), entry.get().getCreatedAt());
+                        return Optional.of(entry.get().getContent());
+                    }
+                    scoringCacheRepository.deleteById(key);
+                    expiredEvictions.increment();
+                }
+            } catch (Exception e) {
+                log.warn("Scoring cache lookup failed for key {} : {}", key, e.getMessage());
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, String promptVersion, String content) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        remember(key, content, now);
+        if (persistent) {
+            try {
+                scoringCacheRepository.save(new ScoringCacheEntry(key, promptVersion, content, now));
+            } catch (Exception e) {
+                log.warn("Unable to persist scoring cache entry {} : {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private void remember(String key, String content, LocalDateTime createdAt) {
+        synchronized (memory) {
+            memory.put(key, new CachedContent(content, createdAt));
+        }
+    }
+
+    private boolean isExpired(LocalDateTime createdAt, LocalDateTime now) {
+        return createdAt.plus(ttl).isBefore(now);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.replaceAll("\\s+", " ").trim();
+    }
+
+    private record CachedContent(String content, LocalDateTime createdAt) {
+    }
+}
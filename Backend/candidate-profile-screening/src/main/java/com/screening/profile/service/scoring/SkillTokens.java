@@ -0,0 +1,41 @@
+package com.screening.profile.service.scoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenization shared by the local scorer and the per-job context, so a job's skills and vocabulary can be
+ * tokenized once and matched against resumes tokenized the same way.
+ */
+final class SkillTokens {
+
+    static final Pattern SKILL_SPLIT = Pattern.compile("[,;|\\n]+");
+
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^a-z0-9+#.]+");
+
+    static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "you", "your", "will", "are", "our", "this", "that", "from", "have",
+            "who", "their", "into", "role", "work", "team", "teams", "able", "across", "within", "ensure",
+            "strong", "skills", "experience", "responsible", "including", "position", "required", "requrired"
+    );
+
+    private SkillTokens() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            // Keep ".net" or "node.js" but not the full stop at the end of a sentence
+            while (token.endsWith(".")) {
+                token = token.substring(0, token.length() - 1);
+            }
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,305 @@
+package com.screening.profile.service.screening;
+
+import com.screening.profile.service.screening.parser.ParsedResume.Truncation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts resume text with bounded resources. PDFBox keeps up to {@code max-main-memory} of scratch data on
+ * the heap and spills the rest to temp files, only the first {@code max-pages} pages are read, and a document
+ * that runs past {@code time-budget-ms} is cancelled between content stream operators. Either limit yields the
+ * text of the pages finished so far, marked with the {@link Truncation} that cut it short.
+ * <p>
+ * Documents longer than {@code parallel.page-threshold} pages are split into ranges of about
+ * {@code parallel.pages-per-range} pages that are stripped on a fork-join pool and joined back in page order.
+ * A {@link PDDocument} is not thread safe, so every range loads its own copy and strips only its pages; the
+ * text is the same as stripping the document in one go.
+ * <p>
+ * Publishes {@code resume.extraction.time} and {@code resume.extraction.allocated} (bytes allocated by the
+ * parsing thread and any range workers) tagged with the outcome, and {@code resume.extraction.truncated} tagged with the reason.
+ */
+@Slf4j
+@Component
+public class PdfExtractor {
+
+    /**
+     * @param pageCount   pages in the document
+     * @param pagesParsed pages whose text is in {@code text}
+     * @param truncation  why extraction stopped early, {@code null} when the whole document was read
+     */
+    public record Extraction(String text, int pageCount, int pagesParsed, Truncation truncation) {
+
+        public boolean isPartial() {
+            return truncation != null;
+        }
+    }
+
+    // Checking the clock on every operator is measurable on text heavy pages
+    private static final int OPERATORS_PER_CHECK = 256;
+
+    private final long maxMainMemoryBytes;
+    private final int maxPages;
+    private final long timeBudgetNanos;
+    private final int parallelPageThreshold;
+    private final int pagesPerRange;
+    private final ForkJoinPool rangePool;
+    private final MeterRegistry meterRegistry;
+    private final Map<Truncation, Counter> truncated = new EnumMap<>(Truncation.class);
+    private final com.sun.management.ThreadMXBean allocations;
+
+    public PdfExtractor(MeterRegistry meterRegistry,
+                        @Value("${resume.extraction.max-main-memory:16MB}") DataSize maxMainMemory,
+                        @Value("${resume.extraction.max-pages:30}") int maxPages,
+                        @Value("${resume.extraction.time-budget-ms:10000}") long timeBudgetMs,
+                        @Value("${resume.extraction.parallel.page-threshold:8}") int parallelPageThreshold,
+                        @Value("${resume.extraction.parallel.pages-per-range:4}") int pagesPerRange,
+                        @Value("${resume.extraction.parallel.threads:0}") int parallelThreads) {
+        this.meterRegistry = meterRegistry;
+        this.maxMainMemoryBytes = maxMainMemory.toBytes();
+        this.maxPages = Math.max(1, maxPages);
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        this.parallelPageThreshold = parallelPageThreshold;
+        this.pagesPerRange = Math.max(1, pagesPerRange);
+        int threads = parallelThreads > 0 ? parallelThreads : Runtime.getRuntime().availableProcessors();
+        // With one thread the ranges would only add the cost of loading the document again for each of them
+        this.rangePool = parallelPageThreshold > 0 && threads > 1 ? new ForkJoinPool(threads) : null;
+        for (Truncation truncation : List.of(Truncation.PAGE_LIMIT, Truncation.TIME_LIMIT)) {
+            truncated.put(truncation, meterRegistry.counter("resume.extraction.truncated", "reason", tag(truncation)));
+        }
+        this.allocations = allocationCounter();
+    }
+
+    public Extraction extract(byte[] data) throws IOException {
+        return extract(() -> PDDocument.load(data, "", null, null, memoryUsage()));
+    }
+
+    public Extraction extract(Path file) throws IOException {
+        return extract(() -> PDDocument.load(file.toFile(), memoryUsage()));
+    }
+
+    private Extraction extract(Loader loader) throws IOException {
+        long start = System.nanoTime();
+        long allocatedBefore = allocatedBytes();
+        long allocatedByRanges = 0;
+        String outcome = "failed";
+        try (PDDocument document = loader.load()) {
+            int pageCount = document.getNumberOfPages();
+            int pages = Math.min(pageCount, maxPages);
+            long deadline = start + timeBudgetNanos;
+            PageRange range;
+            if (rangePool != null && pages > parallelPageThreshold) {
+                range = stripInParallel(loader, pages, deadline);
+                allocatedByRanges = range.allocatedBytes();
+            } else {
+                range = strip(document, 1, pages, deadline);
+            }
+            Truncation truncation = range.timedOut() ? Truncation.TIME_LIMIT : pageCount > maxPages ? Truncation.PAGE_LIMIT : null;
+            if (truncation != null) {
+                truncated.get(truncation).increment();
+                log.warn("Partially parsed PDF, {} of {} pages read before hitting {}", range.pagesParsed(), pageCount, truncation);
+            }
+            outcome = truncation == null ? "complete" : "partial";
+            return new Extraction(range.text(), pageCount, range.pagesParsed(), truncation);
+        } finally {
+            Timer.builder("resume.extraction.time").tag("outcome", outcome).register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (allocatedBefore >= 0) {
+                DistributionSummary.builder("resume.extraction.allocated").baseUnit("bytes").tag("outcome", outcome)
+                        .register(meterRegistry).record(allocatedBytes() - allocatedBefore + allocatedByRanges);
+            }
+        }
+    }
+
+    private PageRange stripInParallel(Loader loader, int pages, long deadline) throws IOException {
+        try {
+            return rangePool.invoke(new RangeTask(loader, 1, pages, deadline));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static PageRange strip(PDDocument document, int firstPage, int lastPage, long deadline) throws IOException {
+        BudgetedStripper stripper = new BudgetedStripper(deadline);
+        stripper.setStartPage(firstPage);
+        stripper.setEndPage(lastPage);
+        StringWriter text = new StringWriter();
+        boolean timedOut = false;
+        try {
+            stripper.writeText(document, text);
+        } catch (TimeBudgetExceeded e) {
+            timedOut = true;
+        }
+        return new PageRange(text.toString(), stripper.pagesParsed, timedOut, 0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rangePool != null) {
+            rangePool.shutdown();
+        }
+    }
+
+    /**
+     * Scratch buffers stay on the heap up to the configured size and go to temp files beyond it; zero means
+     * temp files only.
+     */
+    private MemoryUsageSetting memoryUsage() {
+        return maxMainMemoryBytes > 0 ? MemoryUsageSetting.setupMixed(maxMainMemoryBytes) : MemoryUsageSetting.setupTempFileOnly();
+    }
+
+    private long allocatedBytes() {
+        return allocations != null ? allocations.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+            return counter;
+        }
+        log.info("Per thread allocation counters are not available, resume.extraction.allocated is not recorded");
+        return null;
+    }
+
+    private static String tag(Truncation truncation) {
+        return truncation.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Text of consecutive pages. A range that timed out ends the text, so nothing after it is joined on.
+     */
+    private record PageRange(String text, int pagesParsed, boolean timedOut, long allocatedBytes) {
+
+        private PageRange then(PageRange next) {
+            long allocated = allocatedBytes + next.allocatedBytes;
+            if (timedOut) {
+                return new PageRange(text, pagesParsed, true, allocated);
+            }
+            return new PageRange(text + next.text, pagesParsed + next.pagesParsed, next.timedOut, allocated);
+        }
+    }
+
+    /**
+     * Halves the page range until it is small enough to strip, then loads a copy of the document for it.
+     */
+    private final class RangeTask extends RecursiveTask<PageRange> {
+
+        private final Loader loader;
+        private final int firstPage;
+        private final int lastPage;
+        private final long deadline;
+
+        private RangeTask(Loader loader, int firstPage, int lastPage, long deadline) {
+            this.loader = loader;
+            this.firstPage = firstPage;
+            this.lastPage = lastPage;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected PageRange compute() {
+            if (lastPage - firstPage + 1 > pagesPerRange) {
+                int middle = (firstPage + lastPage) >>> 1;
+                RangeTask head = new RangeTask(loader, firstPage, middle, deadline);
+                RangeTask tail = new RangeTask(loader, middle + 1, lastPage, deadline);
+                head.fork();
+                PageRange tailRange = tail.compute();
+                return head.join().then(tailRange);
+            }
+            if (System.nanoTime() - deadline > 0) {
+                return new PageRange("", 0, true, 0);
+            }
+            long allocatedBefore = allocatedBytes();
+            try (PDDocument document = loader.load()) {
+                PageRange range = strip(document, firstPage, lastPage, deadline);
+                return allocatedBefore < 0 ? range
+                        : new PageRange(range.text(), range.pagesParsed(), range.timedOut(), allocatedBytes() - allocatedBefore);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        PDDocument load() throws IOException;
+    }
+
+    /**
+     * Writes each page as it finishes and gives up once the deadline passes or the thread is interrupted, leaving
+     * the finished pages in the writer.
+     */
+    private static final class BudgetedStripper extends PDFTextStripper {
+
+        private final long deadline;
+        private int operators;
+        private int pagesParsed;
+
+        private BudgetedStripper(long deadline) throws IOException {
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            checkBudget();
+            super.startPage(page);
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            pagesParsed++;
+        }
+
+        @Override
+        protected void processOperator(Operator operator, List<COSBase> operands) throws IOException {
+            if (++operators % OPERATORS_PER_CHECK == 0) {
+                checkBudget();
+            }
+            super.processOperator(operator, operands);
+        }
+
+        private void checkBudget() {
+            if (System.nanoTime() - deadline > 0 || Thread.currentThread().isInterrupted()) {
+                throw new TimeBudgetExceeded();
+            }
+        }
+    }
+
+    /**
+     * Unchecked so PDFBox's operator error handling, which swallows some {@link IOException}s, lets it through.
+     */
+    private static final class TimeBudgetExceeded extends RuntimeException {
+
+        private TimeBudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+}
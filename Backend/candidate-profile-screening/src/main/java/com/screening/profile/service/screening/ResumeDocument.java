@@ -0,0 +1,42 @@
+package com.screening.profile.service.screening;
+
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.screening.parser.ParsedResume;
+
+import java.util.List;
+
+/**
+ * An uploaded resume parsed once and handed to everything that needs it, so the file is not extracted again
+ * further down the flow.
+ *
+ * @param source   the original file, for storing it with the candidate
+ * @param sha256   hex SHA-256 of the file
+ * @param parsed   the extracted text with its format, truncation and quality
+ * @param sections section headers found in the text, in order, as in {@link com.screening.profile.util.ExtractorHelperUtils#isSectionHeader}
+ */
+public record ResumeDocument(ResumeSource source, String sha256, ParsedResume parsed, List<String> sections) {
+
+    public ResumeDocument {
+        sections = List.copyOf(sections);
+    }
+
+    public String text() {
+        return parsed.text();
+    }
+
+    public int pageCount() {
+        return parsed.pageCount();
+    }
+
+    public boolean isPartial() {
+        return parsed.isPartial();
+    }
+
+    public ParsedResume.Truncation truncation() {
+        return parsed.truncation();
+    }
+
+    public String getFileName() {
+        return source.getFileName();
+    }
+}
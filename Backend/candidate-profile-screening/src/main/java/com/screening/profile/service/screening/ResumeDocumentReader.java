@@ -0,0 +1,81 @@
+package com.screening.profile.service.screening;
+
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.bulk.ResumeSpool;
+import com.screening.profile.service.screening.parser.ParsedResume;
+import com.screening.profile.service.screening.parser.ResumeParserRegistry;
+import com.screening.profile.util.ExtractorHelperUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns an upload into a {@link ResumeDocument}: the bytes are read and hashed once and the file is parsed once,
+ * by the parser its content calls for.
+ * Parse results are memoized by SHA-256 in a small LRU so the same file arriving again, such as a retried
+ * application, skips parsing entirely.
+ */
+@Component
+public class ResumeDocumentReader {
+
+    private final ResumeParserRegistry parsers;
+    private final int maxEntries;
+    private final Map<String, Parsed> memo;
+    private final Counter memoHits;
+    private final Counter memoMisses;
+    private final Timer parseTimer;
+
+    public ResumeDocumentReader(ResumeParserRegistry parsers, MeterRegistry meterRegistry,
+                                @Value("${resume.document-memo.max-entries:64}") int maxEntries) {
+        this.parsers = parsers;
+        this.maxEntries = maxEntries;
+        this.memo = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Parsed> eldest) {
+                return size() > ResumeDocumentReader.this.maxEntries;
+            }
+        };
+        this.memoHits = meterRegistry.counter("resume.document.memo", "result", "hit");
+        this.memoMisses = meterRegistry.counter("resume.document.memo", "result", "miss");
+        this.parseTimer = meterRegistry.timer("resume.document.parse");
+    }
+
+    public ResumeDocument read(MultipartFile file) throws IOException {
+        return read(ResumeSource.of(file.getOriginalFilename(), file.getBytes()));
+    }
+
+    public ResumeDocument read(ResumeSource source) throws IOException {
+        byte[] data = source.getBytes();
+        String sha256 = HexFormat.of().formatHex(ResumeSpool.newDigest().digest(data));
+        Parsed parsed;
+        synchronized (memo) {
+            parsed = memo.get(sha256);
+        }
+        if (parsed != null) {
+            memoHits.increment();
+        } else {
+            memoMisses.increment();
+            long start = System.nanoTime();
+            ParsedResume resume = parsers.parse(source);
+            parsed = new Parsed(resume, ExtractorHelperUtils.extractSections(resume.text()));
+            parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            synchronized (memo) {
+                memo.put(sha256, parsed);
+            }
+        }
+        return new ResumeDocument(source, sha256, parsed.resume(), parsed.sections());
+    }
+
+    private record Parsed(ParsedResume resume, List<String> sections) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.screening.profile.service.screening;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Shared stages for bulk screening: CPU bound parsing on a pool sized to the cores, duplicate checks on a small
+ * database pool, LLM scoring on an I/O pool as wide as the LLM limiter's concurrency (virtual threads when the
+ * JVM has them and they are enabled) and a single writer that persists in chunks. Each stage admits a bounded
+ * number of waiting tasks; handing work to a full stage blocks the caller, so a slow stage pushes back on the one
+ * before it instead of piling up memory.
+ * Work only ever flows downstream, which keeps the blocking hand-offs free of cycles.
+ * <p>
+ * Per stage it publishes {@code screening.pipeline.queue.depth}, {@code screening.pipeline.active},
+ * {@code screening.pipeline.wait} (time spent blocked handing work to the stage) and
+ * {@code screening.pipeline.task} (count and duration of finished tasks).
+ */
+@Slf4j
+@Component
+public class ScreeningPipeline {
+
+    public enum Stage {
+        PARSE,
+        DEDUPE,
+        SCORE,
+        PERSIST
+    }
+
+    private final Map<Stage, StageExecutor> stages = new EnumMap<>(Stage.class);
+    private final int writerChunkSize;
+    private final int queueCapacity;
+
+    public ScreeningPipeline(MeterRegistry meterRegistry,
+                             @Value("${screening.pipeline.parse-threads:0}") int parseThreads,
+                             @Value("${screening.pipeline.dedupe-threads:4}") int dedupeThreads,
+                             @Value("${screening.pipeline.score-threads:${perplexity.limiter.max-concurrency:20}}") int scoreThreads,
+                             @Value("${screening.pipeline.virtual-threads:false}") boolean virtualThreads,
+                             @Value("${screening.pipeline.queue-capacity:64}") int queueCapacity,
+                             @Value("${screening.pipeline.writer-chunk-size:25}") int writerChunkSize) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.writerChunkSize = Math.max(1, writerChunkSize);
+        int cores = Runtime.getRuntime().availableProcessors();
+        int parse = parseThreads > 0 ? parseThreads : cores;
+
+        stages.put(Stage.PARSE, new StageExecutor(Stage.PARSE, fixedPool("pipeline-parse-", parse), parse, meterRegistry));
+        stages.put(Stage.DEDUPE, new StageExecutor(Stage.DEDUPE, fixedPool("pipeline-dedupe-", dedupeThreads), dedupeThreads, meterRegistry));
+        ExecutorService scorePool = virtualThreads ? virtualThreadPool() : null;
+        boolean virtual = scorePool != null;
+        if (!virtual) {
+            scorePool = fixedPool("pipeline-score-", scoreThreads);
+        }
+        stages.put(Stage.SCORE, new StageExecutor(Stage.SCORE, scorePool, scoreThreads, meterRegistry));
+        stages.put(Stage.PERSIST, new StageExecutor(Stage.PERSIST, fixedPool("pipeline-persist-", 1), 1, meterRegistry));
+        log.info("Screening pipeline started, parse={}, dedupe={}, score={}{}, queueCapacity={}", parse, dedupeThreads, scoreThreads,
+                virtual ? " (virtual)" : "", this.queueCapacity);
+    }
+
+    /**
+     * Runs the task on the stage, blocking while the stage already has {@code queue-capacity} tasks waiting.
+     */
+    public void execute(Stage stage, Runnable task) throws InterruptedException {
+        stages.get(stage).execute(task);
+    }
+
+    /**
+     * Creates a writer that hands what it is given to {@code flush} in chunks of up to {@code writer-chunk-size},
+     * on the persist stage. {@link BatchingWriter#add} blocks while the writer is full.
+     */
+    public <T> BatchingWriter<T> newWriter(Consumer<List<T>> flush) {
+        return new BatchingWriter<>(flush);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stages.values().forEach(stage -> stage.executor.shutdown());
+    }
+
+    private static ExecutorService fixedPool(String prefix, int threads) {
+        return Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory(prefix));
+    }
+
+    /**
+     * Virtual threads arrived in Java 21; on older runtimes this returns {@code null} and the caller keeps a platform pool.
+     */
+    private static ExecutorService virtualThreadPool() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.warn("Virtual threads are not available on Java {}, scoring uses a platform thread pool", Runtime.version().feature());
+            return null;
+        }
+    }
+
+    public final class BatchingWriter<T> {
+
+        private final BlockingQueue<T> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Consumer<List<T>> flush;
+
+        private BatchingWriter(Consumer<List<T>> flush) {
+            this.flush = flush;
+        }
+
+        public void add(T item) throws InterruptedException {
+            pending.put(item);
+            schedule();
+        }
+
+        private void schedule() throws InterruptedException {
+            if (scheduled.compareAndSet(false, true)) {
+                execute(Stage.PERSIST, this::drain);
+            }
+        }
+
+        private void drain() {
+            List<T> chunk = new ArrayList<>(writerChunkSize);
+            while (true) {
+                while (pending.drainTo(chunk, writerChunkSize) > 0) {
+                    try {
+                        flush.accept(chunk);
+                    } catch (RuntimeException e) {
+                        log.error("Screening writer failed to persist {} items : {}", chunk.size(), e.getMessage(), e);
+                    }
+                    chunk.clear();
+                }
+                scheduled.set(false);
+                // An add may have raced with the flag being cleared
+                if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private final class StageExecutor {
+
+        private final ExecutorService executor;
+        private final Semaphore admission;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer waitTimer;
+        private final Timer taskTimer;
+
+        private StageExecutor(Stage stage, ExecutorService executor, int threads, MeterRegistry meterRegistry) {
+            this.executor = executor;
+            this.admission = new Semaphore(Math.max(1, threads) + queueCapacity);
+            Tags tags = Tags.of("stage", stage.name().toLowerCase(Locale.ROOT));
+            this.waitTimer = meterRegistry.timer("screening.pipeline.wait", tags);
+            this.taskTimer = meterRegistry.timer("screening.pipeline.task", tags);
+            meterRegistry.gauge("screening.pipeline.queue.depth", tags, queued);
+            meterRegistry.gauge("screening.pipeline.active", tags, active);
+        }
+
+        private void execute(Runnable task) throws InterruptedException {
+            long start = System.nanoTime();
+            admission.acquire();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            queued.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    queued.decrementAndGet();
+                    active.incrementAndGet();
+                    long begin = System.nanoTime();
+                    try {
+                        task.run();
+                    } finally {
+                        active.decrementAndGet();
+                        admission.release();
+                        taskTimer.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+                    }
+                });
+            } catch (RuntimeException e) {
+                queued.decrementAndGet();
+                admission.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.screening.profile.service.screening.parser;
+
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.service.bulk.ResumeSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Word (OOXML) resumes, read as a stream: the package is walked entry by entry and {@code word/document.xml} is
+ * pulled through StAX, keeping only the text runs, tabs, breaks and paragraph ends. No DOM is built and
+ * nothing after the document part is inflated. The page count comes from {@code docProps/app.xml} when Word
+ * wrote it ahead of the document, as it does. The document part is read up to {@code max-document-size}
+ * inflated bytes; a larger one keeps the text read so far.
+ */
+@Slf4j
+@Component
+public class DocxResumeParser implements ResumeParser {
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final String APP_PART = "docProps/app.xml";
+    private static final XMLInputFactory XML = newInputFactory();
+
+    private final long maxDocumentBytes;
+
+    public DocxResumeParser(@Value("${resume.parser.max-document-size:20MB}") DataSize maxDocumentSize) {
+        this.maxDocumentBytes = maxDocumentSize.toBytes();
+    }
+
+    @Override
+    public ResumeFormat getFormat() {
+        return ResumeFormat.DOCX;
+    }
+
+    @Override
+    public ParsedResume parse(ResumeSource source) throws IOException {
+        long start = System.nanoTime();
+        CountingInputStream counted = new CountingInputStream(source.openStream());
+        int pageCount = 0;
+        try (ZipInputStream zip = new ZipInputStream(counted)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (APP_PART.equals(entry.getName())) {
+                    pageCount = readPageCount(zip);
+                } else if (DOCUMENT_PART.equals(entry.getName())) {
+                    LimitedInputStream part = new LimitedInputStream(zip, maxDocumentBytes);
+                    String text = readText(part);
+                    return ParsedResume.of(ResumeFormat.DOCX, text, pageCount,
+                            part.exhausted ? ParsedResume.Truncation.SIZE_LIMIT : null, counted.count, start);
+                }
+            }
+        } catch (ZipException e) {
+            throw new ServiceException("Unreadable Word document : " + e.getMessage(), "INVALID_RESUME_FORMAT");
+        }
+        throw new ServiceException("Not a Word document : " + source.getFileName(), "INVALID_RESUME_FORMAT");
+    }
+
+    /**
+     * Text of the document part. A part cut short at the size limit ends in malformed XML, which is expected
+     * and ends the text there.
+     */
+    private static String readText(LimitedInputStream part) {
+        StringBuilder text = new StringBuilder();
+        int runDepth = 0;
+        boolean inText = false;
+        try {
+            XMLStreamReader xml = XML.createXMLStreamReader(part);
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT && WORD_NS.equals(xml.getNamespaceURI())) {
+                    switch (xml.getLocalName()) {
+                        case "r" -> runDepth++;
+                        case "t" -> inText = true;
+                        // Tab stops in the paragraph properties are also w:tab, only those inside a run are text
+                        case "tab" -> appendIf(text, runDepth > 0, '\t');
+                        case "br", "cr" -> appendIf(text, runDepth > 0, '\n');
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NS.equals(xml.getNamespaceURI())) {
+                    switch (xml.getLocalName()) {
+                        case "r" -> runDepth--;
+                        case "t" -> inText = false;
+                        case "p" -> text.append('\n');
+                        default -> {
+                        }
+                    }
+                } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                    text.append(xml.getText());
+                }
+            }
+        } catch (XMLStreamException e) {
+            if (!part.exhausted) {
+                throw new ServiceException("Unreadable Word document : " + e.getMessage(), "INVALID_RESUME_FORMAT");
+            }
+        }
+        return text.toString();
+    }
+
+    private static int readPageCount(InputStream part) {
+        try {
+            XMLStreamReader xml = XML.createXMLStreamReader(part);
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "Pages".equals(xml.getLocalName())) {
+                    return Integer.parseInt(xml.getElementText().trim());
+                }
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            log.debug("Ignoring unreadable {} : {}", APP_PART, e.getMessage());
+        }
+        return 0;
+    }
+
+    private static void appendIf(StringBuilder text, boolean condition, char c) {
+        if (condition) {
+            text.append(c);
+        }
+    }
+
+    /**
+     * DTDs and external entities are switched off; a resume has no business referencing either.
+     */
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    /**
+     * Ends the stream after {@code limit} bytes, noting whether there was more; closing it leaves the zip open.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+        private boolean exhausted;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                exhausted = exhausted || super.read() >= 0;
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
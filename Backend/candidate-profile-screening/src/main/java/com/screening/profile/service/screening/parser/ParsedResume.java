@@ -0,0 +1,32 @@
+package com.screening.profile.service.screening.parser;
+
+/**
+ * What a {@link ResumeParser} got out of a file, with what it cost.
+ *
+ * @param pageCount  pages in the document, 0 when the format has no pages or does not say
+ * @param truncation why the text stops short of the whole document, {@code null} when it was read in full
+ * @param bytesRead  bytes of the file the parser consumed
+ * @param parseNanos time spent parsing
+ */
+public record ParsedResume(ResumeFormat format, String text, int pageCount, Truncation truncation, long bytesRead,
+                           long parseNanos, TextQuality quality) {
+
+    public enum Truncation {
+        PAGE_LIMIT,
+        TIME_LIMIT,
+        SIZE_LIMIT
+    }
+
+    /**
+     * Measures the parse from {@code startNanos} and scores the text.
+     */
+    public static ParsedResume of(ResumeFormat format, String text, int pageCount, Truncation truncation, long bytesRead,
+                                  long startNanos) {
+        return new ParsedResume(format, text, pageCount, truncation, bytesRead, System.nanoTime() - startNanos,
+                TextQuality.of(text));
+    }
+
+    public boolean isPartial() {
+        return truncation != null;
+    }
+}
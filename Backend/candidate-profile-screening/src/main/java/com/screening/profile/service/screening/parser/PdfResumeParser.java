@@ -0,0 +1,43 @@
+package com.screening.profile.service.screening.parser;
+
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.screening.PdfExtractor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+@Component
+public class PdfResumeParser implements ResumeParser {
+
+    private final PdfExtractor pdfExtractor;
+
+    public PdfResumeParser(PdfExtractor pdfExtractor) {
+        this.pdfExtractor = pdfExtractor;
+    }
+
+    @Override
+    public ResumeFormat getFormat() {
+        return ResumeFormat.PDF;
+    }
+
+    /**
+     * Spooled files are loaded from disk so PDFBox never needs the whole file on the heap.
+     */
+    @Override
+    public ParsedResume parse(ResumeSource source) throws IOException {
+        long start = System.nanoTime();
+        PdfExtractor.Extraction extraction;
+        long bytesRead;
+        if (source instanceof ResumeSource.Spooled spooled) {
+            bytesRead = Files.size(spooled.path());
+            extraction = pdfExtractor.extract(spooled.path());
+        } else {
+            byte[] data = source.getBytes();
+            bytesRead = data.length;
+            extraction = pdfExtractor.extract(data);
+        }
+        return ParsedResume.of(ResumeFormat.PDF, extraction.text(), extraction.pageCount(), extraction.truncation(),
+                bytesRead, start);
+    }
+}
@@ -0,0 +1,82 @@
+package com.screening.profile.service.screening.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Resume file formats, told apart by their leading bytes rather than the file name a candidate gave them.
+ */
+public enum ResumeFormat {
+
+    PDF,
+    DOCX,
+    TXT;
+
+    /**
+     * Bytes of the head of a file {@link #sniff(byte[], int)} looks at.
+     */
+    public static final int SNIFF_BYTES = 4096;
+
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    // Readers tolerate junk before the PDF header, so it is searched for rather than expected at offset 0
+    private static final int PDF_HEADER_SEARCH = 1024;
+
+    /**
+     * Returns the format of a file starting with the first {@code length} bytes of {@code head}, or {@code null}
+     * when it is not one we read. Any ZIP is taken for a DOCX; the parser rejects archives that are not one.
+     */
+    public static ResumeFormat sniff(byte[] head, int length) {
+        if (indexOf(head, length, PDF_MAGIC, PDF_HEADER_SEARCH) >= 0) {
+            return PDF;
+        }
+        if (indexOf(head, length, ZIP_MAGIC, 0) == 0) {
+            return DOCX;
+        }
+        return looksLikeText(head, length) ? TXT : null;
+    }
+
+    public static ResumeFormat sniff(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(SNIFF_BYTES);
+        return sniff(head, head.length);
+    }
+
+    /**
+     * UTF-16 text announces itself with a byte order mark. Anything else passes as text when it has no NUL bytes
+     * and hardly any other control characters, which rules out the binary formats including legacy .doc files.
+     */
+    private static boolean looksLikeText(byte[] head, int length) {
+        if (length >= 2 && ((head[0] == (byte) 0xFE && head[1] == (byte) 0xFF) || (head[0] == (byte) 0xFF && head[1] == (byte) 0xFE))) {
+            return true;
+        }
+        if (length == 0) {
+            return false;
+        }
+        int control = 0;
+        for (int i = 0; i < length; i++) {
+            int b = head[i] & 0xFF;
+            if (b == 0) {
+                return false;
+            }
+            if ((b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f') || b == 0x7F) {
+                control++;
+            }
+        }
+        return control * 100 < length;
+    }
+
+    private static int indexOf(byte[] data, int length, byte[] pattern, int searchLimit) {
+        int last = Math.min(length - pattern.length, searchLimit);
+        outer:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.screening.profile.service.screening.parser;
+
+import com.screening.profile.service.bulk.ResumeSource;
+
+import java.io.IOException;
+
+/**
+ * Extracts the text of one resume format. Implementations are Spring beans picked up by
+ * {@link ResumeParserRegistry}, one per {@link ResumeFormat}.
+ */
+public interface ResumeParser {
+
+    ResumeFormat getFormat();
+
+    /**
+     * Called only for sources whose content was sniffed as {@link #getFormat()}. Files that turn out not to be
+     * readable as that format raise a {@code ServiceException} with {@code INVALID_RESUME_FORMAT}.
+     */
+    ParsedResume parse(ResumeSource source) throws IOException;
+}
@@ -0,0 +1,89 @@
+package com.screening.profile.service.screening.parser;
+
+import com.screening.profile.exception.ServiceException;
+import com.screening.profile.service.bulk.ResumeSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Picks the {@link ResumeParser} for a file by sniffing its content and decides whether what came out is worth
+ * scoring. Text scoring below {@code resume.quality.min-score} or shorter than
+ * {@code resume.quality.min-characters} is refused with {@code UNREADABLE_RESUME} instead of being sent to a
+ * paid scoring engine.
+ * <p>
+ * Publishes {@code resume.parser.time}, {@code resume.parser.bytes} and {@code resume.parser.quality} tagged with
+ * the format, and {@code resume.parser.unreadable}.
+ */
+@Slf4j
+@Component
+public class ResumeParserRegistry {
+
+    private final Map<ResumeFormat, ResumeParser> parsers = new EnumMap<>(ResumeFormat.class);
+    private final MeterRegistry meterRegistry;
+    private final double minScore;
+    private final int minCharacters;
+
+    public ResumeParserRegistry(List<ResumeParser> parsers, MeterRegistry meterRegistry,
+                                @Value("${resume.quality.min-score:0.5}") double minScore,
+                                @Value("${resume.quality.min-characters:100}") int minCharacters) {
+        for (ResumeParser parser : parsers) {
+            if (this.parsers.put(parser.getFormat(), parser) != null) {
+                throw new IllegalStateException("More than one resume parser for " + parser.getFormat());
+            }
+        }
+        this.meterRegistry = meterRegistry;
+        this.minScore = minScore;
+        this.minCharacters = minCharacters;
+    }
+
+    public ResumeFormat sniff(ResumeSource source) throws IOException {
+        try (InputStream in = source.openStream()) {
+            return ResumeFormat.sniff(in);
+        }
+    }
+
+    public ParsedResume parse(ResumeSource source) throws IOException {
+        ResumeFormat format = sniff(source);
+        ResumeParser parser = format != null ? parsers.get(format) : null;
+        if (parser == null) {
+            throw new ServiceException("Unsupported resume format, upload a PDF, DOCX or plain text file : "
+                    + source.getFileName(), "INVALID_RESUME_FORMAT");
+        }
+        ParsedResume parsed = parser.parse(source);
+        String tag = format.name().toLowerCase(Locale.ROOT);
+        meterRegistry.timer("resume.parser.time", "format", tag).record(parsed.parseNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("resume.parser.bytes").baseUnit("bytes").tag("format", tag)
+                .register(meterRegistry).record(parsed.bytesRead());
+        DistributionSummary.builder("resume.parser.quality").tag("format", tag)
+                .register(meterRegistry).record(parsed.quality().score());
+        return parsed;
+    }
+
+    public boolean isReadable(ParsedResume parsed) {
+        return parsed.quality().score() >= minScore && parsed.quality().characters() >= minCharacters;
+    }
+
+    /**
+     * Throws {@code UNREADABLE_RESUME} for text not worth scoring, such as a scanned resume with no text layer.
+     */
+    public void requireReadable(ParsedResume parsed, String fileName) {
+        if (!isReadable(parsed)) {
+            meterRegistry.counter("resume.parser.unreadable", "format", parsed.format().name().toLowerCase(Locale.ROOT)).increment();
+            log.warn("Not scoring {}, extracted text is unreadable (quality {}, {} characters)", fileName,
+                    String.format(Locale.ROOT, "%.2f", parsed.quality().score()), parsed.quality().characters());
+            throw new ServiceException("No readable text found in " + fileName
+                    + ", it may be a scanned image; upload a text based resume", "UNREADABLE_RESUME");
+        }
+    }
+}
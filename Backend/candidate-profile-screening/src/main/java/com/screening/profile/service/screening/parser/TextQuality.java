@@ -0,0 +1,65 @@
+package com.screening.profile.service.screening.parser;
+
+/**
+ * How much extracted text looks like prose. Scanned resumes come out empty and PDFs with fonts that lack a
+ * Unicode mapping come out as runs of symbols; both score near zero and are not worth sending to an LLM.
+ *
+ * @param score      between 0 and 1: the share of printable characters times the share of word-like tokens
+ * @param characters non-whitespace characters in the text
+ * @param words      whitespace separated tokens that look like words
+ */
+public record TextQuality(double score, int characters, int words) {
+
+    private static final int MAX_WORD_LENGTH = 30;
+
+    public static TextQuality of(String text) {
+        int characters = 0;
+        int unprintable = 0;
+        int tokens = 0;
+        int words = 0;
+        int tokenLength = 0;
+        int tokenLetters = 0;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isWhitespace(c)) {
+                if (tokenLength > 0) {
+                    tokens++;
+                    if (isWordLike(tokenLength, tokenLetters)) {
+                        words++;
+                    }
+                }
+                tokenLength = 0;
+                tokenLetters = 0;
+                continue;
+            }
+            characters++;
+            tokenLength++;
+            if (Character.isLetter(c)) {
+                tokenLetters++;
+            } else if (!isPrintable(c)) {
+                unprintable++;
+            }
+        }
+        if (tokens == 0) {
+            return new TextQuality(0, 0, 0);
+        }
+        double printable = 1 - (double) unprintable / characters;
+        double wordLike = (double) words / tokens;
+        return new TextQuality(printable * wordLike, characters, words);
+    }
+
+    /**
+     * At least two letters, mostly letters, and not a run of glyphs without spaces.
+     */
+    private static boolean isWordLike(int length, int letters) {
+        return letters >= 2 && length <= MAX_WORD_LENGTH && letters * 5 >= length * 3;
+    }
+
+    private static boolean isPrintable(char c) {
+        if (c == '\uFFFD' || Character.isISOControl(c) || Character.isSurrogate(c)) {
+            return false;
+        }
+        int type = Character.getType(c);
+        return type != Character.PRIVATE_USE && type != Character.UNASSIGNED;
+    }
+}
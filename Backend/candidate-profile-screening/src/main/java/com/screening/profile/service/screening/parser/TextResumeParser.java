@@ -0,0 +1,72 @@
+package com.screening.profile.service.screening.parser;
+
+import com.screening.profile.service.bulk.ResumeSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Plain text resumes. UTF-16 is recognised by its byte order mark, anything else is read as UTF-8 and, when
+ * that does not decode, as Windows-1252, which is what older editors on Windows save.
+ */
+@Component
+public class TextResumeParser implements ResumeParser {
+
+    private static final Charset WINDOWS_1252 = Charset.forName("windows-1252");
+
+    private final int maxBytes;
+
+    public TextResumeParser(@Value("${resume.parser.max-document-size:20MB}") DataSize maxDocumentSize) {
+        this.maxBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxDocumentSize.toBytes());
+    }
+
+    @Override
+    public ResumeFormat getFormat() {
+        return ResumeFormat.TXT;
+    }
+
+    @Override
+    public ParsedResume parse(ResumeSource source) throws IOException {
+        long start = System.nanoTime();
+        byte[] data;
+        try (InputStream in = source.openStream()) {
+            data = in.readNBytes(maxBytes + 1);
+        }
+        boolean complete = data.length <= maxBytes;
+        int length = Math.min(data.length, maxBytes);
+        return ParsedResume.of(ResumeFormat.TXT, decode(data, length, complete), 0,
+                complete ? null : ParsedResume.Truncation.SIZE_LIMIT, length, start);
+    }
+
+    /**
+     * A file cut at the size limit may end in the middle of a character, which is dropped rather than taken as
+     * a sign the file is not UTF-8.
+     */
+    private static String decode(byte[] data, int length, boolean complete) {
+        if (length >= 2 && data[0] == (byte) 0xFE && data[1] == (byte) 0xFF) {
+            return new String(data, 2, length - 2, StandardCharsets.UTF_16BE);
+        }
+        if (length >= 2 && data[0] == (byte) 0xFF && data[1] == (byte) 0xFE) {
+            return new String(data, 2, length - 2, StandardCharsets.UTF_16LE);
+        }
+        int offset = length >= 3 && data[0] == (byte) 0xEF && data[1] == (byte) 0xBB && data[2] == (byte) 0xBF ? 3 : 0;
+        CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer text = CharBuffer.allocate(length - offset);
+        if (utf8.decode(ByteBuffer.wrap(data, offset, length - offset), text, complete).isError()
+                || (complete && utf8.flush(text).isError())) {
+            return new String(data, offset, length - offset, WINDOWS_1252);
+        }
+        return text.flip().toString();
+    }
+}
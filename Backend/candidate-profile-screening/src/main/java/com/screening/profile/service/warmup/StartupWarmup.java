@@ -0,0 +1,207 @@
+package com.screening.profile.service.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.profile.dto.BulkProgressEventDTO;
+import com.screening.profile.dto.BulkScreeningStatusDTO;
+import com.screening.profile.dto.CandidateInterviewDTO;
+import com.screening.profile.dto.JobApplicationDTO;
+import com.screening.profile.dto.ScreenedCandidateDTO;
+import com.screening.profile.model.Candidate;
+import com.screening.profile.model.Job;
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.repository.JobApplicationRepository;
+import com.screening.profile.repository.JobRepository;
+import com.screening.profile.repository.ResumeFingerprintRepository;
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.job.JobService;
+import com.screening.profile.service.llm.PerplexityClient;
+import com.screening.profile.service.screening.parser.ParsedResume;
+import com.screening.profile.service.screening.parser.ResumeParserRegistry;
+import com.screening.profile.util.enums.ScreeningItemState;
+import com.screening.profile.util.matcher.ScreeningResultDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Does the one-off work the first {@code /apply-job} after a deploy would otherwise pay for: PDFBox building its
+ * font cache, Jackson creating serializers, Hibernate preparing the hot queries and the first TLS handshake
+ * with the LLM API. Runs after the other runners, including {@code DatabaseSeeder}, and Spring Boot only marks
+ * the application ready to accept traffic once every runner has returned, so the readiness probe stays down
+ * until the warm-up is over. A step that fails is logged and skipped; warm-up never stops the application.
+ * <p>
+ * Each step is timed into {@code startup.warmup} tagged with the step and outcome, and reported as the
+ * {@code warmup} health indicator, which is part of the readiness group.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner, HealthIndicator {
+
+    private static final String SAMPLE_RESUME = "warmup/sample-resume.pdf";
+    private static final String SAMPLE_RESULT = """
+            {"matchedSkills":["Java"],"missingSkills":[],"score":50,"summary":"Warm-up",
+             "name":"Warm Up","email":"warmup@example.com","phoneNumber":"9000000000"}""";
+
+    private final ResumeParserRegistry resumeParsers;
+    private final ObjectMapper objectMapper;
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+    private final CandidateRepository candidateRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ResumeFingerprintRepository resumeFingerprintRepository;
+    private final PerplexityClient perplexityClient;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int llmConnections;
+    private final Map<String, Map<String, Object>> steps = new LinkedHashMap<>();
+    private volatile boolean finished;
+
+    public StartupWarmup(ResumeParserRegistry resumeParsers, ObjectMapper objectMapper, JobRepository jobRepository,
+                         JobService jobService, CandidateRepository candidateRepository,
+                         JobApplicationRepository jobApplicationRepository, ResumeFingerprintRepository resumeFingerprintRepository,
+                         PerplexityClient perplexityClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${warmup.enabled:true}") boolean enabled,
+                         @Value("${warmup.llm-connections:2}") int llmConnections) {
+        this.resumeParsers = resumeParsers;
+        this.objectMapper = objectMapper;
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.candidateRepository = candidateRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.resumeFingerprintRepository = resumeFingerprintRepository;
+        this.perplexityClient = perplexityClient;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.llmConnections = llmConnections;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            finished = true;
+            return;
+        }
+        long start = System.nanoTime();
+        step("resume-parsing", this::parseSampleResume);
+        step("json", this::serializeResponses);
+        step("queries", this::runHotQueries);
+        if (llmConnections > 0 && perplexityClient.hasApiKey()) {
+            step("llm-connections", () -> "HTTP " + perplexityClient.openConnections(llmConnections));
+        } else {
+            skip("llm-connections", "no API key");
+        }
+        finished = true;
+        log.info("Warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = finished ? Health.up() : Health.outOfService();
+        synchronized (steps) {
+            steps.forEach(health::withDetail);
+        }
+        return health.build();
+    }
+
+    private String parseSampleResume() throws Exception {
+        byte[] pdf;
+        try (InputStream in = new ClassPathResource(SAMPLE_RESUME).getInputStream()) {
+            pdf = in.readAllBytes();
+        }
+        ParsedResume parsed = resumeParsers.parse(ResumeSource.of("sample-resume.pdf", pdf));
+        ScreeningResultDecoder.decode(SAMPLE_RESULT, true);
+        return parsed.text().length() + " characters";
+    }
+
+    /**
+     * Builds the serializers for what the screening endpoints return.
+     */
+    private String serializeResponses() throws Exception {
+        Candidate candidate = new Candidate();
+        candidate.setMatchedSkills(List.of("Java"));
+        BulkScreeningStatusDTO.FileStatus file = new BulkScreeningStatusDTO.FileStatus();
+        file.setState(ScreeningItemState.SAVED);
+        BulkScreeningStatusDTO status = new BulkScreeningStatusDTO();
+        status.setFiles(List.of(file));
+        status.setProcessedCandidates(List.of(new ScreenedCandidateDTO(1L, "Warm Up", "warmup@example.com", 50.0, null, List.of("Java"))));
+        status.setProgress(Map.of(ScreeningItemState.SAVED, 1L));
+        int bytes = 0;
+        for (Object response : List.of(candidate, new Job(), status, new CandidateInterviewDTO(), new JobApplicationDTO(),
+                new BulkProgressEventDTO())) {
+            bytes += objectMapper.writeValueAsBytes(response).length;
+        }
+        return bytes + " bytes";
+    }
+
+    /**
+     * The reads an application goes through, against the first job when there is one. Nothing is written.
+     */
+    private String runHotQueries() {
+        List<Job> jobs = jobRepository.findAll(PageRequest.of(0, 1)).getContent();
+        Long jobId = jobs.isEmpty() ? -1L : jobs.get(0).getId();
+        if (!jobs.isEmpty()) {
+            jobService.getScreeningContext(jobId);
+        }
+        jobApplicationRepository.findByJobId(jobId);
+        candidateRepository.findByEmail("warmup@example.com");
+        candidateRepository.findTopCandidatesByResumeTextAndJob("warm up", jobId);
+        resumeFingerprintRepository.findByJobAndBands(jobId, List.of(0L));
+        candidateRepository.findCandidatesWithInterviewFeedbackByJobId(Math.toIntExact(jobId));
+        return jobs.isEmpty() ? "no jobs" : "job " + jobId;
+    }
+
+    private void step(String name, Step step) {
+        long start = System.nanoTime();
+        String outcome = "done";
+        String detail;
+        try {
+            detail = step.run();
+        } catch (Exception e) {
+            outcome = "failed";
+            detail = e.getMessage();
+            log.warn("Warm-up step {} failed : {}", name, e.getMessage());
+        }
+        long nanos = System.nanoTime() - start;
+        meterRegistry.timer("startup.warmup", "step", name, "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        log.info("Warm-up step {} {} in {} ms ({})", name, outcome, millis, detail);
+        record(name, outcome, millis, detail);
+    }
+
+    private void skip(String name, String reason) {
+        log.info("Warm-up step {} skipped, {}", name, reason);
+        record(name, "skipped", 0, reason);
+    }
+
+    private void record(String name, String outcome, long millis, String detail) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("outcome", outcome);
+        result.put("durationMs", millis);
+        result.put("detail", String.valueOf(detail));
+        synchronized (steps) {
+            steps.put(name, result);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        String run() throws Exception;
+    }
+}
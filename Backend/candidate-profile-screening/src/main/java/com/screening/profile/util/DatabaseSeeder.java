@@ -3,6 +3,8 @@ package com.screening.profile.util;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -12,7 +14,9 @@ import java.io.BufferedReader;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 
+// Before StartupWarmup, which runs the job queries against the seeded jobs
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DatabaseSeeder implements ApplicationRunner {
 	private final JdbcTemplate jdbcTemplate;
 	private final ResourceLoader resourceLoader;
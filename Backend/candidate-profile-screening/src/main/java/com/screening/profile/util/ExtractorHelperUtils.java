@@ -6,8 +6,11 @@ import lombok.experimental.UtilityClass;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +27,37 @@ public class ExtractorHelperUtils {
             "COLLEGE", "UNIVERSITY", "INSTITUTE", "TECHNOLOGY", "ENGINEERING", "SCHOOL", "ACADEMY"
     ));
 
+    public static boolean isSectionHeader(String line) {
+        String header = line.trim().toUpperCase();
+        if (header.endsWith(":")) {
+            header = header.substring(0, header.length() - 1).trim();
+        }
+        return SECTION_HEADERS.contains(header);
+    }
+
+    /**
+     * Section headers found in the text, in order, upper case and without a trailing colon.
+     */
+    public static List<String> extractSections(String text) {
+        List<String> sections = new ArrayList<>();
+        for (String line : text.split("\\R")) {
+            if (isSectionHeader(line)) {
+                sections.add(normalizeHeader(line));
+            }
+        }
+        return List.copyOf(sections);
+    }
+
+    public static String normalizeHeader(String line) {
+        String header = line.trim().toUpperCase(Locale.ROOT);
+        return header.endsWith(":") ? header.substring(0, header.length() - 1).trim() : header;
+    }
+
+    public static boolean isInstitute(String line) {
+        String upper = line.toUpperCase(Locale.ROOT);
+        return INSTITUTE_KEYWORDS.stream().anyMatch(upper::contains);
+    }
+
     public static  String extractEmail(String text) {
         Matcher matcher = Pattern.compile("[a-zA-Z0-9_.+-]+@[a-zA-Z0-9-]+\\.[a-zA-Z0-9-.]+")
                 .matcher(text);
@@ -69,9 +103,7 @@ public class ExtractorHelperUtils {
                     !line.toLowerCase().contains("resume"))
             {
 
-                String upper = line.toUpperCase();
-                boolean containsInstituteKeyword = INSTITUTE_KEYWORDS.stream().anyMatch(upper::contains);
-                if (containsInstituteKeyword) continue;
+                if (isInstitute(line)) continue;
 
                 if (line.equals(line.toUpperCase())
                         && line.matches("^[A-Z ,.'-]+$")
@@ -0,0 +1,7 @@
+package com.screening.profile.util.enums;
+
+public enum ScreeningBatchState {
+    QUEUED,
+    RUNNING,
+    COMPLETED
+}
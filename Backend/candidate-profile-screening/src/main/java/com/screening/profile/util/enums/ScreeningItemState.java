@@ -0,0 +1,14 @@
+package com.screening.profile.util.enums;
+
+public enum ScreeningItemState {
+    QUEUED,
+    PARSING,
+    SCORING,
+    SAVED,
+    DUPLICATE,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == SAVED || this == DUPLICATE || this == FAILED;
+    }
+}
@@ -6,11 +6,22 @@ import java.util.Map;
 
 public class HttpErrors {
 
-    private static final Map<String, HttpStatus> errorCodeToStatus = Map.of(
-            "UNAUTHORIZED", HttpStatus.UNAUTHORIZED,
-            "INVALID_RESUME_FORMAT", HttpStatus.BAD_REQUEST,
-            "JOB_DESCRIPTION_MISSING", HttpStatus.UNPROCESSABLE_ENTITY,
-            "INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR
+    private static final Map<String, HttpStatus> errorCodeToStatus = Map.ofEntries(
+            Map.entry("UNAUTHORIZED", HttpStatus.UNAUTHORIZED),
+            Map.entry("INVALID_RESUME_FORMAT", HttpStatus.BAD_REQUEST),
+            Map.entry("UNREADABLE_RESUME", HttpStatus.UNPROCESSABLE_ENTITY),
+            Map.entry("JOB_DESCRIPTION_MISSING", HttpStatus.UNPROCESSABLE_ENTITY),
+            Map.entry("INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR),
+            Map.entry("LLM_RATE_LIMITED", HttpStatus.TOO_MANY_REQUESTS),
+            Map.entry("LLM_CIRCUIT_OPEN", HttpStatus.SERVICE_UNAVAILABLE),
+            Map.entry("INVALID_LLM_RESPONSE", HttpStatus.BAD_GATEWAY),
+            Map.entry("INVALID_SCORING_ENGINE", HttpStatus.BAD_REQUEST),
+            Map.entry("INVALID_ARCHIVE", HttpStatus.BAD_REQUEST),
+            Map.entry("ARCHIVE_LIMIT_EXCEEDED", HttpStatus.PAYLOAD_TOO_LARGE),
+            Map.entry("BATCH_NOT_FOUND", HttpStatus.NOT_FOUND),
+            Map.entry("JOB_NOT_FOUND", HttpStatus.NOT_FOUND),
+            Map.entry("INVALID_BATCH", HttpStatus.BAD_REQUEST),
+            Map.entry("BATCH_IN_PROGRESS", HttpStatus.CONFLICT)
     );
 
     public static HttpStatus getStatusForCode(String errorCode) {
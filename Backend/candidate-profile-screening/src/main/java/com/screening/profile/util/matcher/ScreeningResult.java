@@ -0,0 +1,21 @@
+package com.screening.profile.util.matcher;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Typed form of the JSON a scoring engine answers with. Contact fields are only filled for bulk screening,
+ * where the resume is the only source of the candidate's details.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScreeningResult(List<String> matchedSkills,
+                              List<String> missingSkills,
+                              Double score,
+                              String summary,
+                              String name,
+                              String email,
+                              String phoneNumber) {
+}
@@ -0,0 +1,125 @@
+package com.screening.profile.util.matcher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.screening.profile.exception.ServiceException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * Binds LLM answers to {@link ScreeningResult} in one pass with shared, thread safe readers, so callers no
+ * longer re-parse the same content for every field. Markdown code fences and chatter around the JSON are
+ * stripped first, and the result is checked against the fields the rest of the flow depends on.
+ */
+@Slf4j
+public final class ScreeningResultDecoder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader RESULT_READER = MAPPER.readerFor(ScreeningResult.class);
+    private static final ObjectReader TREE_READER = MAPPER.reader();
+    private static final ObjectWriter RESULT_WRITER = MAPPER.writerFor(ScreeningResult.class);
+
+    private ScreeningResultDecoder() {
+    }
+
+    /**
+     * @param requireContactDetails whether name, email and phoneNumber must be present, as they are for bulk uploads
+     */
+    public static ScreeningResult decode(String content, boolean requireContactDetails) {
+        String json = stripFences(content, '{', '}');
+        ScreeningResult result;
+        try {
+            result = RESULT_READER.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Unreadable screening result : " + e.getOriginalMessage(), "INVALID_LLM_RESPONSE");
+        }
+        String problem = validate(result, requireContactDetails);
+        if (problem != null) {
+            throw new ServiceException("Invalid screening result : " + problem, "INVALID_LLM_RESPONSE");
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a batched answer, a JSON array of results that each carry the {@code index} of their resume. The
+     * returned array is aligned with the resumes; missing, duplicated or invalid entries are left {@code null}.
+     */
+    public static ScreeningResult[] decodeBatch(String content, int size) {
+        ScreeningResult[] results = new ScreeningResult[size];
+        JsonNode entries;
+        try {
+            entries = TREE_READER.readTree(stripFences(content, '[', ']'));
+        } catch (IOException e) {
+            log.warn("Batched screening result is not valid JSON : {}", e.getMessage());
+            return results;
+        }
+        if (entries == null || !entries.isArray()) {
+            log.warn("Batched screening result is not a JSON array");
+            return results;
+        }
+        for (JsonNode entry : entries) {
+            JsonNode index = entry.get("index");
+            if (index == null || !index.canConvertToInt() || index.asInt() < 0 || index.asInt() >= size || results[index.asInt()] != null) {
+                continue;
+            }
+            try {
+                ScreeningResult result = RESULT_READER.readValue(entry);
+                if (validate(result, true) == null) {
+                    results[index.asInt()] = result;
+                }
+            } catch (IOException e) {
+                log.debug("Skipping unreadable batch entry {} : {}", index.asInt(), e.getMessage());
+            }
+        }
+        return results;
+    }
+
+    public static String encode(ScreeningResult result) {
+        try {
+            return RESULT_WRITER.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Could not serialize screening result", "INTERNAL_ERROR");
+        }
+    }
+
+    /**
+     * Drops a surrounding {@code ```json ... ```} fence and anything before the first opening or after the last
+     * closing bracket.
+     */
+    private static String stripFences(String content, char open, char close) {
+        if (content == null) {
+            return "";
+        }
+        int start = content.indexOf(open);
+        int end = content.lastIndexOf(close);
+        if (start < 0 || end < start) {
+            return content.strip();
+        }
+        return content.substring(start, end + 1);
+    }
+
+    private static String validate(ScreeningResult result, boolean requireContactDetails) {
+        if (result == null) {
+            return "empty";
+        }
+        if (result.score() == null || result.score().isNaN() || result.score() < 0 || result.score() > 100) {
+            return "score must be between 0 and 100";
+        }
+        if (result.summary() == null) {
+            return "summary is missing";
+        }
+        if (result.matchedSkills() == null) {
+            return "matchedSkills is missing";
+        }
+        if (requireContactDetails && (result.name() == null || result.email() == null || result.phoneNumber() == null)) {
+            return "contact details are missing";
+        }
+        return null;
+    }
+}
@@ -5,13 +5,20 @@ import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 
 
 @Slf4j
 public class PdfParsingUtil {
 
     public static String extractText(MultipartFile file) throws IOException {
-        try (PDDocument document = PDDocument.load(file.getInputStream())) {
+        try (InputStream in = file.getInputStream()) {
+            return extractText(in);
+        }
+    }
+
+    public static String extractText(InputStream in) throws IOException {
+        try (PDDocument document = PDDocument.load(in)) {
             PDFTextStripper stripper = new PDFTextStripper();
             return stripper.getText(document);
         }
@@ -0,0 +1,9 @@
+-- Per job scoring engine override. The jobs table is created by Hibernate, so on a fresh database it does not
+-- exist yet and gets the column when it is created; only add it to an existing table that lacks it.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'jobs') > 0
+        AND (SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'scoring_engine') = 0,
+    'ALTER TABLE jobs ADD COLUMN scoring_engine VARCHAR(32)',
+    'DO 0');
+PREPARE ddl_stmt FROM @ddl;
+EXECUTE ddl_stmt;
+DEALLOCATE PREPARE ddl_stmt;
@@ -0,0 +1,2 @@
+-- Which engine scored the candidate, so results from the local fallback engine can be told apart from LLM scores
+ALTER TABLE candidate ADD COLUMN scoring_engine VARCHAR(32);
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS scoring_cache (
+    cache_key CHAR(64) PRIMARY KEY,
+    prompt_version VARCHAR(32) NOT NULL,
+    content TEXT NOT NULL,
+    created_at DATETIME NOT NULL
+);
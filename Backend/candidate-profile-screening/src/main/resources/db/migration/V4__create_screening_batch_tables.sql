@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS screening_batch (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    batched BIT NOT NULL,
+    engine VARCHAR(32),
+    state VARCHAR(16) NOT NULL,
+    total_items INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    completed_at DATETIME
+);
+
+CREATE TABLE IF NOT EXISTS screening_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    batch_id BIGINT NOT NULL,
+    file_name VARCHAR(255),
+    file_data LONGBLOB,
+    state VARCHAR(16) NOT NULL,
+    candidate_id BIGINT,
+    error VARCHAR(1000),
+    updated_at DATETIME NOT NULL,
+    INDEX idx_screening_item_batch (batch_id, state)
+);
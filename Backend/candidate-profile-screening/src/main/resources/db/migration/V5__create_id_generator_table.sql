@@ -0,0 +1,27 @@
+-- Pooled ids for candidate, job_application and interview so their inserts can be batched.
+-- Each row holds the first id of the next block, starting after the ids already in use.
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+SET @seed = IF((SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'candidate') > 0,
+    'INSERT IGNORE INTO id_generator SELECT ''candidate'', COALESCE(MAX(id), 0) + 1 FROM candidate',
+    'INSERT IGNORE INTO id_generator VALUES (''candidate'', 1)');
+PREPARE seed_stmt FROM @seed;
+EXECUTE seed_stmt;
+DEALLOCATE PREPARE seed_stmt;
+
+SET @seed = IF((SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'job_application') > 0,
+    'INSERT IGNORE INTO id_generator SELECT ''job_application'', COALESCE(MAX(id), 0) + 1 FROM job_application',
+    'INSERT IGNORE INTO id_generator VALUES (''job_application'', 1)');
+PREPARE seed_stmt FROM @seed;
+EXECUTE seed_stmt;
+DEALLOCATE PREPARE seed_stmt;
+
+SET @seed = IF((SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = 'interview') > 0,
+    'INSERT IGNORE INTO id_generator SELECT ''interview'', COALESCE(MAX(id), 0) + 1 FROM interview',
+    'INSERT IGNORE INTO id_generator VALUES (''interview'', 1)');
+PREPARE seed_stmt FROM @seed;
+EXECUTE seed_stmt;
+DEALLOCATE PREPARE seed_stmt;
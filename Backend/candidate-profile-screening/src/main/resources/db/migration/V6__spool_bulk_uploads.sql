@@ -0,0 +1,5 @@
+ALTER TABLE screening_item ADD COLUMN spool_path VARCHAR(512);
+
+ALTER TABLE screening_batch
+    ADD COLUMN spooled_bytes BIGINT,
+    ADD COLUMN peak_heap_bytes BIGINT;
@@ -0,0 +1,3 @@
+ALTER TABLE screening_item
+    ADD COLUMN checksum CHAR(64),
+    ADD INDEX idx_screening_item_checksum (batch_id, checksum);
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS resume_profile (
+    candidate_id BIGINT PRIMARY KEY,
+    email VARCHAR(255),
+    phone_number VARCHAR(32),
+    years_experience DOUBLE,
+    sections VARCHAR(512),
+    created_at DATETIME NOT NULL,
+    INDEX idx_resume_profile_email (email),
+    INDEX idx_resume_profile_phone (phone_number),
+    INDEX idx_resume_profile_years (years_experience),
+    CONSTRAINT fk_resume_profile_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS resume_profile_skill (
+    candidate_id BIGINT NOT NULL,
+    skill VARCHAR(64) NOT NULL,
+    PRIMARY KEY (candidate_id, skill),
+    INDEX idx_resume_profile_skill (skill, candidate_id),
+    CONSTRAINT fk_resume_profile_skill FOREIGN KEY (candidate_id) REFERENCES resume_profile (candidate_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS resume_profile_institute (
+    candidate_id BIGINT NOT NULL,
+    institute VARCHAR(255) NOT NULL,
+    PRIMARY KEY (candidate_id, institute),
+    INDEX idx_resume_profile_institute (institute),
+    CONSTRAINT fk_resume_profile_institute FOREIGN KEY (candidate_id) REFERENCES resume_profile (candidate_id) ON DELETE CASCADE
+);
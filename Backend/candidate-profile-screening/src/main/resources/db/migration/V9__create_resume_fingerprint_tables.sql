@@ -0,0 +1,17 @@
+-- MinHash signatures (128 x 4 bytes) and their LSH band hashes per job for near-duplicate resume lookups.
+CREATE TABLE IF NOT EXISTS resume_fingerprint (
+    candidate_id BIGINT PRIMARY KEY,
+    signature VARBINARY(512) NOT NULL,
+    shingles INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    CONSTRAINT fk_resume_fingerprint_candidate FOREIGN KEY (candidate_id) REFERENCES candidate (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS resume_lsh_bucket (
+    candidate_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    band_hash BIGINT NOT NULL,
+    PRIMARY KEY (candidate_id, job_id, band_hash),
+    INDEX idx_resume_lsh_bucket_probe (job_id, band_hash, candidate_id),
+    CONSTRAINT fk_resume_lsh_bucket_fingerprint FOREIGN KEY (candidate_id) REFERENCES resume_fingerprint (candidate_id) ON DELETE CASCADE
+);
@@ -0,0 +1,79 @@
+package com.screening.profile.benchmark;
+
+import com.screening.profile.loadtest.LoadHarnessOptions;
+import com.screening.profile.loadtest.SyntheticResumes;
+import com.screening.profile.service.bulk.ResumeSource;
+import com.screening.profile.service.screening.PdfExtractor;
+import com.screening.profile.service.screening.ResumeDocumentReader;
+import com.screening.profile.service.screening.parser.PdfResumeParser;
+import com.screening.profile.service.screening.parser.ResumeParserRegistry;
+import com.screening.profile.util.parser.PdfParsingUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the parsing an {@code /apply-job} request used to do (the controller, the scoring service and the
+ * candidate service each extracting the PDF) with one {@link ResumeDocumentReader#read}, reporting wall time and
+ * CPU time per application. A third row re-reads files already seen, as a retried application would.
+ * Run with {@code --resumes=200 --rounds=5}.
+ */
+public class ApplyParsingBenchmark {
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        int resumes = Integer.parseInt(options.getOrDefault("resumes", "200"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+
+        List<byte[]> pdfs = new ArrayList<>(resumes);
+        for (int i = 0; i < resumes; i++) {
+            pdfs.add(SyntheticResumes.generate(10_000 + i).pdf());
+        }
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PdfExtractor pdfExtractor = new PdfExtractor(meterRegistry, DataSize.ofMegabytes(16), 30, 10_000, 0, 4, 0);
+        ResumeParserRegistry parsers = new ResumeParserRegistry(List.of(new PdfResumeParser(pdfExtractor)), meterRegistry, 0.5, 100);
+
+        System.out.println("Flow             us/apply   cpu us/apply");
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1;
+            run("extract x3", pdfs, report, pdf -> {
+                for (int i = 0; i < 3; i++) {
+                    sink = PdfParsingUtil.extractText(new ByteArrayInputStream(pdf));
+                }
+            });
+            // A fresh reader per round so the first pass always parses
+            ResumeDocumentReader reader = new ResumeDocumentReader(parsers, new SimpleMeterRegistry(), resumes);
+            run("document", pdfs, report, pdf -> sink = reader.read(ResumeSource.of("resume.pdf", pdf)));
+            run("document memo", pdfs, report, pdf -> sink = reader.read(ResumeSource.of("resume.pdf", pdf)));
+        }
+    }
+
+    private static void run(String name, List<byte[]> pdfs, boolean report, Apply apply) throws IOException {
+        var threads = ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long start = System.nanoTime();
+        for (byte[] pdf : pdfs) {
+            apply.run(pdf);
+        }
+        long elapsed = System.nanoTime() - start;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuBefore;
+        if (report) {
+            System.out.printf(Locale.ROOT, "%-15s %9.0f %14.0f%n", name, elapsed / 1000.0 / pdfs.size(), cpu / 1000.0 / pdfs.size());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Apply {
+        void run(byte[] pdf) throws IOException;
+    }
+}
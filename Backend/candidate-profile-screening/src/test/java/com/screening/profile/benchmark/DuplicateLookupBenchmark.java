@@ -0,0 +1,125 @@
+package com.screening.profile.benchmark;
+
+import com.screening.profile.loadtest.LoadHarnessOptions;
+import com.screening.profile.loadtest.SyntheticResumes;
+import com.screening.profile.service.dedupe.MinHash;
+import com.screening.profile.service.dedupe.ResumeSignature;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares the CPU side of the two duplicate lookups for one job: the fuzzy ratio of the new resume against the
+ * ten texts a FULLTEXT query would return, and a MinHash signature probed against an in-memory copy of the LSH
+ * buckets. The MySQL FULLTEXT query itself is not part of the fulltext timing, so its real cost is higher. Half
+ * of the lookups are near duplicates of a job's resume (new contact details and a few words changed), the other
+ * half new resumes; both paths report how many of each they flag. Run with
+ * {@code --existing=2000 --lookups=200 --pages=1 --threshold=0.6}.
+ */
+public class DuplicateLookupBenchmark {
+
+    private static final int FULLTEXT_RESULTS = 10;
+    private static final int SIMILARITY_THRESHOLD = 90;
+
+    public static void main(String[] args) {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        int existing = Integer.parseInt(options.getOrDefault("existing", "2000"));
+        int lookups = Integer.parseInt(options.getOrDefault("lookups", "200"));
+        int pages = Integer.parseInt(options.getOrDefault("pages", "1"));
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "0.6"));
+
+        List<String> texts = new ArrayList<>(existing);
+        List<ResumeSignature> signatures = new ArrayList<>(existing);
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < existing; i++) {
+            String text = SyntheticResumes.text(30_000 + i, pages);
+            ResumeSignature signature = MinHash.sign(text);
+            texts.add(text);
+            signatures.add(signature);
+            for (long band : MinHash.bandHashes(signature)) {
+                buckets.computeIfAbsent(band, b -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Random random = new Random(7);
+        List<String> queries = new ArrayList<>(lookups);
+        List<List<Integer>> fullTextResults = new ArrayList<>(lookups);
+        for (int i = 0; i < lookups; i++) {
+            int source = random.nextInt(existing);
+            queries.add(i % 2 == 0 ? nearDuplicate(texts.get(source), random) : SyntheticResumes.text(90_000 + i, pages));
+            // The FULLTEXT ranking puts the resume it was copied from among its ten results
+            List<Integer> results = new ArrayList<>(FULLTEXT_RESULTS);
+            results.add(source);
+            while (results.size() < FULLTEXT_RESULTS) {
+                results.add(random.nextInt(existing));
+            }
+            fullTextResults.add(results);
+        }
+
+        System.out.println("Lookup        us/op   duplicates flagged   new resumes flagged");
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int[] flagged = new int[2];
+            for (int i = 0; i < lookups; i++) {
+                if (fuzzyDuplicate(queries.get(i), fullTextResults.get(i), texts)) {
+                    flagged[i % 2]++;
+                }
+            }
+            report("fulltext", start, lookups, flagged);
+
+            start = System.nanoTime();
+            flagged = new int[2];
+            for (int i = 0; i < lookups; i++) {
+                if (lshDuplicate(queries.get(i), buckets, signatures, threshold)) {
+                    flagged[i % 2]++;
+                }
+            }
+            report("lsh", start, lookups, flagged);
+        }
+    }
+
+    private static boolean fuzzyDuplicate(String text, List<Integer> results, List<String> texts) {
+        for (int result : results) {
+            if (FuzzySearch.ratio(text, texts.get(result)) >= SIMILARITY_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean lshDuplicate(String text, Map<Long, List<Integer>> buckets, List<ResumeSignature> signatures, double threshold) {
+        ResumeSignature signature = MinHash.sign(text);
+        for (long band : MinHash.bandHashes(signature)) {
+            for (int candidate : buckets.getOrDefault(band, List.of())) {
+                if (MinHash.similarity(signature, signatures.get(candidate)) >= threshold) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The same resume sent in again with other contact details and a handful of words reworded.
+     */
+    private static String nearDuplicate(String text, Random random) {
+        String[] lines = text.split("\n");
+        lines[1] = "someone" + random.nextInt(1_000_000) + "@example.org | 8" + (100_000_000 + random.nextInt(900_000_000));
+        String[] words = String.join("\n", lines).split(" ");
+        for (int i = 0; i < 5; i++) {
+            words[random.nextInt(words.length)] = "reworded";
+        }
+        return String.join(" ", words);
+    }
+
+    private static void report(String name, long start, int lookups, int[] flagged) {
+        double micros = (System.nanoTime() - start) / 1_000.0 / lookups;
+        System.out.printf(Locale.ROOT, "%-9s %10.1f %13d/%-6d %13d/%d%n", name, micros,
+                flagged[0], (lookups + 1) / 2, flagged[1], lookups / 2);
+    }
+}
@@ -0,0 +1,77 @@
+package com.screening.profile.benchmark;
+
+import com.screening.profile.loadtest.LoadHarnessOptions;
+import com.screening.profile.loadtest.SyntheticResumes;
+import com.screening.profile.service.screening.PdfExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares stripping 1, 10 and 50 page resumes on one thread with the fork-join page range extraction of
+ * {@link PdfExtractor}, reporting milliseconds per document, and fails if the two ever produce different text.
+ * Run with {@code --documents=20 --rounds=5 --pages-per-range=4 --threads=4}; the parallel side needs at least two threads.
+ */
+public class PageRangeExtractionBenchmark {
+
+    private static final int[] PAGE_COUNTS = {1, 10, 50};
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        int documents = Integer.parseInt(options.getOrDefault("documents", "20"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "5"));
+        int pagesPerRange = Integer.parseInt(options.getOrDefault("pages-per-range", "4"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "4"));
+
+        PdfExtractor sequential = extractor(0, pagesPerRange, threads);
+        PdfExtractor parallel = extractor(1, pagesPerRange, threads);
+        try {
+            System.out.println("Pages   sequential ms/doc   parallel ms/doc   speedup");
+            for (int pages : PAGE_COUNTS) {
+                List<byte[]> pdfs = new ArrayList<>(documents);
+                for (int i = 0; i < documents; i++) {
+                    pdfs.add(SyntheticResumes.generate(20_000 + i, pages).pdf());
+                }
+                verifyIdentical(sequential, parallel, pdfs);
+                double sequentialMs = 0;
+                double parallelMs = 0;
+                for (int round = 0; round < rounds; round++) {
+                    sequentialMs = run(sequential, pdfs);
+                    parallelMs = run(parallel, pdfs);
+                }
+                System.out.printf(Locale.ROOT, "%5d %20.2f %17.2f %9.2fx%n", pages, sequentialMs, parallelMs, sequentialMs / parallelMs);
+            }
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private static PdfExtractor extractor(int pageThreshold, int pagesPerRange, int threads) {
+        return new PdfExtractor(new SimpleMeterRegistry(), DataSize.ofMegabytes(16), 1000, 600_000,
+                pageThreshold, pagesPerRange, threads);
+    }
+
+    private static void verifyIdentical(PdfExtractor sequential, PdfExtractor parallel, List<byte[]> pdfs) throws IOException {
+        for (int i = 0; i < pdfs.size(); i++) {
+            String expected = sequential.extract(pdfs.get(i)).text();
+            String actual = parallel.extract(pdfs.get(i)).text();
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException("Parallel extraction differs from sequential for document " + i);
+            }
+        }
+    }
+
+    private static double run(PdfExtractor extractor, List<byte[]> pdfs) throws IOException {
+        long start = System.nanoTime();
+        for (byte[] pdf : pdfs) {
+            extractor.extract(pdf);
+        }
+        return (System.nanoTime() - start) / 1e6 / pdfs.size();
+    }
+}
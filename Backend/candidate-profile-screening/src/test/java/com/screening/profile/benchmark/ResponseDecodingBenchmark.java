@@ -0,0 +1,75 @@
+package com.screening.profile.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.profile.loadtest.LoadHarnessOptions;
+import com.screening.profile.loadtest.PerplexityStubServer;
+import com.screening.profile.util.matcher.ScreeningResult;
+import com.screening.profile.util.matcher.ScreeningResultDecoder;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares decoding one LLM answer the old way (a fresh {@code ObjectMapper} and a {@code readTree} per field)
+ * with {@link ScreeningResultDecoder}, reporting time and bytes allocated per candidate on the calling thread.
+ * Run with {@code --iterations=200000 --warmup=50000}.
+ */
+public class ResponseDecodingBenchmark {
+
+    private static final String FENCED_CONTENT = "```json\n" + PerplexityStubServer.DEFAULT_CONTENT + "\n```";
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "200000"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "50000"));
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        System.out.println("Decoder        ns/op     bytes/op");
+        run("re-parse", iterations, warmup, threads, () -> legacyDecode(PerplexityStubServer.DEFAULT_CONTENT));
+        run("single-pass", iterations, warmup, threads, () -> ScreeningResultDecoder.decode(FENCED_CONTENT, true));
+    }
+
+    private static void run(String name, int iterations, int warmup, com.sun.management.ThreadMXBean threads, Decode decode) {
+        for (int i = 0; i < warmup; i++) {
+            sink = decode.apply();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = decode.apply();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.printf(Locale.ROOT, "%-12s %8.0f %12.0f%n", name, (double) elapsed / iterations, (double) bytes / iterations);
+    }
+
+    /**
+     * What {@code saveBulkCandidate} and {@code extractAndSaveCandidateDetails} used to do for every candidate.
+     */
+    private static ScreeningResult legacyDecode(String text) {
+        try {
+            ObjectMapper objectMapper = new ObjectMapper();
+            JsonNode node = objectMapper.readTree(text);
+            String summary = objectMapper.readTree(text).get("summary").asText();
+            Double score = objectMapper.readTree(text).get("score").asDouble();
+            List<String> matchedSkills = objectMapper.readerForListOf(String.class).readValue(objectMapper.readTree(text).get("matchedSkills"));
+            return new ScreeningResult(matchedSkills, null, score, summary,
+                    node.get("name").asText(), node.get("email").asText(), node.get("phoneNumber").asText());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decode {
+        Object apply();
+    }
+}
@@ -0,0 +1,29 @@
+package com.screening.profile.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class LoadHarnessOptions {
+
+    private LoadHarnessOptions() {
+    }
+
+    /**
+     * Parses {@code --key=value} arguments; a bare {@code --flag} maps to "true".
+     */
+    public static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
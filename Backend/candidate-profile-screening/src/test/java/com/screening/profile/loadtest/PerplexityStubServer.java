@@ -0,0 +1,201 @@
+package com.screening.profile.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for the Perplexity {@code /chat/completions} endpoint. It answers with canned content after a
+ * configurable latency, can inject 429s and 5xx errors, and honours {@code stream: true} with server-sent events.
+ * Point the application at it with {@code perplexity.base-url=<url>} and any non-blank {@code perplexity.api.key}.
+ */
+public class PerplexityStubServer implements AutoCloseable {
+
+    public static final String DEFAULT_CONTENT = "{\"matchedSkills\":[\"Java\",\"Spring Boot\"],\"missingSkills\":[\"Kubernetes\"],"
+            + "\"score\":72.5,\"name\":\"Load Test\",\"email\":\"load.test@example.com\",\"phoneNumber\":\"9876543210\","
+            + "\"summary\":\"Stub evaluation with 4 years of matching experience.\"}";
+
+    public enum LatencyDistribution {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile LatencyDistribution distribution = LatencyDistribution.FIXED;
+    private volatile long latencyMs = 200;
+    private volatile long latencySpreadMs = 0;
+    private volatile double throttleRate = 0;
+    private volatile double errorRate = 0;
+    private volatile String content = DEFAULT_CONTENT;
+
+    public PerplexityStubServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        executor = Executors.newFixedThreadPool(64);
+        server.setExecutor(executor);
+        server.createContext("/chat/completions", this::handle);
+    }
+
+    public PerplexityStubServer start() {
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/chat/completions";
+    }
+
+    /**
+     * FIXED waits {@code latencyMs}; UNIFORM picks from {@code latencyMs ± spreadMs}; LOG_NORMAL uses
+     * {@code latencyMs} as the median and {@code spreadMs / latencyMs} as sigma, which gives a realistic long tail.
+     */
+    public PerplexityStubServer latency(LatencyDistribution distribution, long latencyMs, long spreadMs) {
+        this.distribution = distribution;
+        this.latencyMs = latencyMs;
+        this.latencySpreadMs = spreadMs;
+        return this;
+    }
+
+    public PerplexityStubServer throttleRate(double throttleRate) {
+        this.throttleRate = throttleRate;
+        return this;
+    }
+
+    public PerplexityStubServer errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public PerplexityStubServer content(String content) {
+        this.content = content;
+        return this;
+    }
+
+    public Map<String, Long> stats() {
+        return Map.of("requests", requests.get(), "throttled", throttled.get(), "failed", failed.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            JsonNode request;
+            try (InputStream body = exchange.getRequestBody()) {
+                request = objectMapper.readTree(body);
+            }
+            sleep(nextLatency());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < throttleRate) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, "application/json", "{\"error\":\"rate limited\"}");
+                return;
+            }
+            if (roll < throttleRate + errorRate) {
+                failed.incrementAndGet();
+                respond(exchange, 503, "application/json", "{\"error\":\"unavailable\"}");
+                return;
+            }
+
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange);
+                return;
+            }
+            ObjectNode response = objectMapper.createObjectNode();
+            response.put("id", UUID.randomUUID().toString());
+            response.put("model", request.path("model").asText("sonar-pro"));
+            ObjectNode choice = response.putArray("choices").addObject();
+            choice.put("index", 0);
+            choice.put("finish_reason", "stop");
+            ObjectNode message = choice.putObject("message");
+            message.put("role", "assistant");
+            message.put("content", content);
+            respond(exchange, 200, "application/json", objectMapper.writeValueAsString(response));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stream(HttpExchange exchange) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String word : content.split("(?<= )")) {
+                ObjectNode chunk = objectMapper.createObjectNode();
+                chunk.putArray("choices").addObject().putObject("delta").put("content", word);
+                out.write(("data: " + objectMapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                sleep(20);
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private long nextLatency() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (distribution) {
+            case FIXED -> latencyMs;
+            case UNIFORM -> Math.max(0, latencyMs - latencySpreadMs + random.nextLong(2 * latencySpreadMs + 1));
+            case LOG_NORMAL -> {
+                double sigma = latencyMs == 0 ? 0 : (double) latencySpreadMs / latencyMs;
+                yield (long) (latencyMs * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        PerplexityStubServer stub = new PerplexityStubServer(Integer.parseInt(options.getOrDefault("port", "8099")))
+                .latency(LatencyDistribution.valueOf(options.getOrDefault("distribution", "LOG_NORMAL")),
+                        Long.parseLong(options.getOrDefault("latency-ms", "800")),
+                        Long.parseLong(options.getOrDefault("spread-ms", "400")))
+                .throttleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")))
+                .errorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                .start();
+        System.out.println("Perplexity stub listening on " + stub.getUrl());
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        Thread.currentThread().join();
+    }
+}
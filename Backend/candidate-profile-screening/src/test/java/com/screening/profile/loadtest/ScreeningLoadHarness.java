@@ -0,0 +1,259 @@
+package com.screening.profile.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.screening.profile.CandidateProfileScreeningApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives {@code /api/v1/apply-job} and {@code /api/v1/bulk-upload} at increasing concurrency against the
+ * {@link PerplexityStubServer} and prints throughput, latency percentiles and failure rate per level. A bulk
+ * upload is timed until its batch completes.
+ * <p>
+ * Without {@code --target} the application is started in-process (it still needs the MySQL database from
+ * application.yml) with its Perplexity endpoint pointed at the stub. Options:
+ * <pre>
+ *   --target=http://localhost:8092   run against an already started instance (start it with the stub url)
+ *   --job-id=1 --levels=1,2,4,8,16 --requests=40 --bulk-files=10
+ *   --email=hr@example.com --password=secret   credentials for /bulk-upload (skipped without them)
+ *   --distribution=LOG_NORMAL --latency-ms=800 --spread-ms=400 --throttle-rate=0.05 --error-rate=0.01
+ * </pre>
+ */
+public class ScreeningLoadHarness {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final AtomicLong SEED = new AtomicLong(System.currentTimeMillis());
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final String target;
+    private final long jobId;
+    private final String token;
+
+    ScreeningLoadHarness(String target, long jobId, String token) {
+        this.target = target;
+        this.jobId = jobId;
+        this.token = token;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadHarnessOptions.parse(args);
+        List<Integer> levels = Arrays.stream(options.getOrDefault("levels", "1,2,4,8,16").split(","))
+                .map(String::trim).map(Integer::parseInt).toList();
+        int requests = Integer.parseInt(options.getOrDefault("requests", "40"));
+        int bulkFiles = Integer.parseInt(options.getOrDefault("bulk-files", "10"));
+        long jobId = Long.parseLong(options.getOrDefault("job-id", "1"));
+
+        try (PerplexityStubServer stub = new PerplexityStubServer(Integer.parseInt(options.getOrDefault("stub-port", "0")))
+                .latency(PerplexityStubServer.LatencyDistribution.valueOf(options.getOrDefault("distribution", "LOG_NORMAL")),
+                        Long.parseLong(options.getOrDefault("latency-ms", "800")),
+                        Long.parseLong(options.getOrDefault("spread-ms", "400")))
+                .throttleRate(Double.parseDouble(options.getOrDefault("throttle-rate", "0")))
+                .errorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")))
+                .start()) {
+
+            ConfigurableApplicationContext context = null;
+            String target = options.get("target");
+            if (target == null) {
+                context = new SpringApplicationBuilder(CandidateProfileScreeningApplication.class)
+                        .run("--server.port=0", "--perplexity.base-url=" + stub.getUrl(), "--perplexity.api.key=stub");
+                target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            } else {
+                System.out.println("Using running instance " + target + ", it must be started with --perplexity.base-url=" + stub.getUrl());
+            }
+            try {
+                ScreeningLoadHarness harness = new ScreeningLoadHarness(target, jobId,
+                        signIn(target, options.get("email"), options.get("password")));
+                System.out.println("Scenario     Conc   Reqs   Thrpt/s    p50 ms    p95 ms    p99 ms   Fail %");
+                for (int level : levels) {
+                    harness.run("apply-job", level, requests, harness::applyJob).print();
+                }
+                if (harness.token != null) {
+                    for (int level : levels) {
+                        harness.run("bulk-upload", level, Math.max(level, requests / bulkFiles), () -> harness.bulkUpload(bulkFiles)).print();
+                    }
+                } else {
+                    System.out.println("bulk-upload skipped, pass --email and --password to sign in");
+                }
+                System.out.println("Stub : " + stub.stats());
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+            }
+        }
+    }
+
+    Report run(String scenario, int concurrency, int requests, Call call) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong failures = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(executor.submit(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        if (call.execute() / 100 != 2) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - begin);
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new Report(scenario, concurrency, requests, System.nanoTime() - start, latencies, failures.get());
+    }
+
+    int applyJob() throws IOException, InterruptedException {
+        SyntheticResumes.Resume resume = SyntheticResumes.generate(SEED.incrementAndGet());
+        Multipart body = new Multipart()
+                .file("resumePdf", "resume.pdf", resume.pdf())
+                .field("jobId", String.valueOf(jobId))
+                .field("name", resume.name())
+                .field("email", resume.email())
+                .field("phoneNumber", resume.phone())
+                .field("dob", "01/01/1995");
+        return post("/api/v1/apply-job", body).statusCode();
+    }
+
+    int bulkUpload(int files) throws IOException, InterruptedException {
+        Multipart body = new Multipart().field("jobId", String.valueOf(jobId));
+        for (int i = 0; i < files; i++) {
+            body.file("resumePdf", "resume-" + i + ".pdf", SyntheticResumes.generate(SEED.incrementAndGet()).pdf());
+        }
+        HttpResponse<String> submitted = post("/api/v1/bulk-upload", body);
+        if (submitted.statusCode() != 202) {
+            return submitted.statusCode();
+        }
+        // The upload is screened in the background, poll until the batch completes
+        long batchId = OBJECT_MAPPER.readTree(submitted.body()).path("batchId").asLong();
+        while (true) {
+            HttpResponse<String> status = get("/api/v1/bulk-upload/" + batchId);
+            if (status.statusCode() != 200 || "COMPLETED".equals(OBJECT_MAPPER.readTree(status.body()).path("state").asText())) {
+                return status.statusCode();
+            }
+            Thread.sleep(250);
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target + path)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Multipart body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target + path))
+                .timeout(Duration.ofMinutes(10))
+                .header("Content-Type", "multipart/form-data; boundary=" + body.boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.build()));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String signIn(String target, String email, String password) throws IOException, InterruptedException {
+        if (email == null || password == null) {
+            return null;
+        }
+        String json = String.format("{\"email\":\"%s\",\"password\":\"%s\"}", email, password);
+        HttpResponse<String> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder(URI.create(target + "/admins/signin"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Sign in failed with status " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    @FunctionalInterface
+    interface Call {
+        int execute() throws Exception;
+    }
+
+    record Report(String scenario, int concurrency, int requests, long elapsedNanos, List<Long> latencies, long failures) {
+
+        void print() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf(Locale.ROOT, "%-12s %4d %6d %9.2f %9.1f %9.1f %9.1f %8.2f%n",
+                    scenario, concurrency, requests, requests / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    requests == 0 ? 0 : 100.0 * failures / requests);
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+            return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1e6;
+        }
+    }
+
+    static final class Multipart {
+        private final String boundary = "----harness" + UUID.randomUUID().toString().replace("-", "");
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Multipart field(String name, String value) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n");
+            return this;
+        }
+
+        Multipart file(String name, String filename, byte[] content) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename
+                    + "\"\r\nContent-Type: application/pdf\r\n\r\n");
+            out.writeBytes(content);
+            write("\r\n");
+            return this;
+        }
+
+        byte[] build() {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            copy.writeBytes(out.toByteArray());
+            copy.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+            return copy.toByteArray();
+        }
+
+        private void write(String text) {
+            out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
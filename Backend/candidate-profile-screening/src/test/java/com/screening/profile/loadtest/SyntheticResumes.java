@@ -0,0 +1,135 @@
+package com.screening.profile.loadtest;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates distinct resume PDFs so repeated runs do not trip the duplicate check. Resumes are a single page
+ * unless asked for more, in which case the extra pages continue the work experience.
+ */
+public final class SyntheticResumes {
+
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "Hibernate", "MySQL", "Kafka", "Docker", "Kubernetes", "React", "Python",
+            "Financial modeling", "Excel", "Credit analysis", "Valuation", "Due diligence", "AWS", "Terraform",
+            "Microservices", "REST APIs", "JUnit", "Jenkins", "Risk management", "SQL", "Tableau", "Scala"
+    };
+
+    private static final String[] WORDS = {
+            "designed", "delivered", "migrated", "optimised", "led", "owned", "built", "automated", "reduced",
+            "latency", "pipeline", "platform", "service", "clients", "portfolio", "reporting", "throughput",
+            "stakeholders", "regulatory", "trading", "settlement", "analytics", "dashboards", "onboarding"
+    };
+
+    private SyntheticResumes() {
+    }
+
+    public static Resume generate(long seed) throws IOException {
+        return generate(seed, 1);
+    }
+
+    public static Resume generate(long seed, int pages) throws IOException {
+        List<List<String>> content = pages(seed, pages);
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (List<String> lines : content) {
+                addPage(document, lines);
+            }
+            document.save(out);
+            return new Resume(name(seed), email(seed), phone(seed), out.toByteArray());
+        }
+    }
+
+    /**
+     * The text {@link #generate(long, int)} puts in the PDF, one line per line.
+     */
+    public static String text(long seed, int pages) {
+        StringBuilder text = new StringBuilder();
+        for (List<String> lines : pages(seed, pages)) {
+            for (String line : lines) {
+                text.append(line).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static List<List<String>> pages(long seed, int pages) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>();
+        lines.add(name(seed).toUpperCase());
+        lines.add(email(seed) + " | " + phone(seed));
+        lines.add("PROFESSIONAL SUMMARY");
+        lines.add((2 + random.nextInt(12)) + " years of experience. " + sentence(random, 14));
+        lines.add("TECHNICAL SKILLS");
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            skills.append(SKILLS[random.nextInt(SKILLS.length)]).append(i < 5 ? ", " : "");
+        }
+        lines.add(skills.toString());
+        lines.add("WORK EXPERIENCE");
+        for (int i = 0; i < 12; i++) {
+            lines.add("- " + sentence(random, 12));
+        }
+        lines.add("EDUCATION");
+        lines.add("Institute of Technology " + (seed % 97));
+
+        List<List<String>> content = new ArrayList<>();
+        content.add(lines);
+        for (int page = 2; page <= pages; page++) {
+            List<String> more = new ArrayList<>();
+            more.add("WORK EXPERIENCE (CONTINUED " + page + ")");
+            for (int i = 0; i < 45; i++) {
+                more.add("- " + sentence(random, 12));
+            }
+            content.add(more);
+        }
+        return content;
+    }
+
+    private static String name(long seed) {
+        return "Candidate " + Long.toString(seed, 36).toUpperCase();
+    }
+
+    private static String email(long seed) {
+        return "candidate" + seed + "@example.com";
+    }
+
+    private static String phone(long seed) {
+        return String.format("9%09d", Math.floorMod(seed * 7919, 1_000_000_000L));
+    }
+
+    private static void addPage(PDDocument document, List<String> lines) throws IOException {
+        PDPage page = new PDPage();
+        document.addPage(page);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+            content.beginText();
+            content.setFont(PDType1Font.HELVETICA, 10);
+            content.setLeading(14);
+            content.newLineAtOffset(50, 740);
+            for (String line : lines) {
+                content.showText(line);
+                content.newLine();
+            }
+            content.endText();
+        }
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        sb.append(SKILLS[random.nextInt(SKILLS.length)]).append('.');
+        return sb.toString();
+    }
+
+    public record Resume(String name, String email, String phone, byte[] pdf) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.screening.profile.service.bulk;
+
+import com.screening.profile.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeArchiveReaderTest {
+
+    private static final String RESUME = "Jane Doe\nSenior Java Developer\nSkills: Java, Spring Boot, MySQL\n";
+
+    @TempDir
+    Path spool;
+
+    @Test
+    void spoolsResumesAndSkipsFoldersAndMacMetadata() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("resumes/", new byte[0]);
+        files.put("resumes/jane.txt", text(RESUME));
+        files.put("__MACOSX/resumes/._jane.txt", new byte[]{0, 5, 22, 7});
+        files.put("resumes/.DS_Store", new byte[]{0, 0, 0, 1});
+        files.put("resumes\\john.pdf", text("%PDF-1.4\n% John Smith resume\n"));
+
+        List<ResumeArchiveReader.Entry> entries = reader(10, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100)
+                .spool(zip(files), spool);
+
+        assertEquals(2, entries.size());
+        ResumeArchiveReader.Entry jane = entries.get(0);
+        assertEquals("jane.txt", jane.fileName());
+        assertNull(jane.rejection());
+        assertEquals(RESUME.length(), jane.size());
+        assertArrayEquals(text(RESUME), Files.readAllBytes(jane.path()));
+        assertEquals(sha256(text(RESUME)), jane.checksum());
+        assertTrue(jane.path().startsWith(spool));
+        assertEquals("john.pdf", entries.get(1).fileName());
+        assertNull(entries.get(1).rejection());
+    }
+
+    @Test
+    void rejectsEntriesThatAreNotResumes() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("jane.txt", text(RESUME));
+        files.put("photo.txt", new byte[]{(byte) 0x89, 'P', 'N', 'G', 0, 0, 0, 13});
+
+        List<ResumeArchiveReader.Entry> entries = reader(10, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100)
+                .spool(zip(files), spool);
+
+        ResumeArchiveReader.Entry photo = entries.get(1);
+        assertNull(photo.path());
+        assertNotNull(photo.rejection());
+        assertEquals(1, countFiles(spool));
+    }
+
+    @Test
+    void rejectsOnlyTheEntryOverThePerEntryLimit() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("long.txt", text("x".repeat(2048)));
+        files.put("jane.txt", text(RESUME));
+
+        List<ResumeArchiveReader.Entry> entries = reader(10, DataSize.ofBytes(1024), DataSize.ofMegabytes(10), 100)
+                .spool(zip(files), spool);
+
+        ResumeArchiveReader.Entry tooLong = entries.get(0);
+        assertNull(tooLong.path());
+        assertTrue(tooLong.size() > 1024);
+        assertTrue(tooLong.rejection().contains("larger than 1024 bytes"));
+        assertNull(entries.get(1).rejection());
+        assertEquals(1, countFiles(spool));
+    }
+
+    @Test
+    void failsWhenTheArchiveHasTooManyEntries() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            files.put("resume-" + i + ".txt", text(RESUME));
+        }
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(2, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100).spool(zip(files), spool));
+
+        assertEquals("ARCHIVE_LIMIT_EXCEEDED", e.getErrorCode());
+    }
+
+    @Test
+    void failsWhenTheArchiveInflatesPastTheTotalLimit() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("first.txt", text("a".repeat(6 * 1024)));
+        files.put("second.txt", text("b".repeat(6 * 1024)));
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(1), DataSize.ofKilobytes(10), 1000).spool(zip(files), spool));
+
+        assertEquals("ARCHIVE_LIMIT_EXCEEDED", e.getErrorCode());
+        assertTrue(e.getMessage().contains("inflates to more than"));
+    }
+
+    @Test
+    void failsWhenEntriesInflateFarMoreThanTheyRead() throws Exception {
+        // Two megabytes of one repeated letter deflate to a few kilobytes, a ratio in the hundreds
+        Map<String, byte[]> files = Map.of("bomb.txt", text("a".repeat(2 * 1024 * 1024)));
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(20), DataSize.ofGigabytes(1), 100).spool(zip(files), spool));
+
+        assertEquals("ARCHIVE_LIMIT_EXCEEDED", e.getErrorCode());
+        assertTrue(e.getMessage().contains("compression ratio"));
+    }
+
+    @Test
+    void checksTheRatioOfEntriesItSkips() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("jane.txt", text(RESUME));
+        files.put("__MACOSX/._bomb", text("a".repeat(2 * 1024 * 1024)));
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(20), DataSize.ofGigabytes(1), 100).spool(zip(files), spool));
+
+        assertEquals("ARCHIVE_LIMIT_EXCEEDED", e.getErrorCode());
+    }
+
+    @Test
+    void failsOnAnArchiveWithoutResumes() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<>();
+        files.put("resumes/", new byte[0]);
+        files.put("__MACOSX/._jane.txt", new byte[]{0, 5, 22, 7});
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100).spool(zip(files), spool));
+
+        assertEquals("INVALID_ARCHIVE", e.getErrorCode());
+    }
+
+    @Test
+    void failsOnBytesThatAreNotAZip() {
+        ByteArrayInputStream notAZip = new ByteArrayInputStream(text(RESUME));
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100).spool(notAZip, spool));
+
+        assertEquals("INVALID_ARCHIVE", e.getErrorCode());
+    }
+
+    @Test
+    void failsOnACorruptEntry() throws Exception {
+        byte[] archive = zip(Map.of("jane.txt", text(RESUME.repeat(20)))).readAllBytes();
+        // Scramble the deflated data right after the local file header and the 8 character name
+        for (int i = 30 + 8; i < 30 + 8 + 16; i++) {
+            archive[i] = (byte) 0xFF;
+        }
+
+        ServiceException e = assertThrows(ServiceException.class,
+                () -> reader(10, DataSize.ofMegabytes(1), DataSize.ofMegabytes(10), 100)
+                        .spool(new ByteArrayInputStream(archive), spool));
+
+        assertEquals("INVALID_ARCHIVE", e.getErrorCode());
+    }
+
+    private static ResumeArchiveReader reader(int maxEntries, DataSize maxEntrySize, DataSize maxTotalSize, int maxRatio) {
+        return new ResumeArchiveReader(maxEntries, maxEntrySize, maxTotalSize, maxRatio);
+    }
+
+    private static ByteArrayInputStream zip(Map<String, byte[]> files) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                zip.putNextEntry(new ZipEntry(file.getKey()));
+                zip.write(file.getValue());
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static byte[] text(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.screening.profile.service.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHashTest {
+
+    static final String RESUME = """
+            Jane Doe
+            jane.doe@example.com | +1 555 0100 | Austin, TX
+            Summary
+            Backend engineer with eight years of experience building payment and billing services in Java.
+            Experience
+            Senior Software Engineer, Acme Payments, 2019 - present
+            Led the migration of the ledger service from a monolith to Spring Boot microservices.
+            Cut settlement batch time from four hours to twenty minutes by partitioning the MySQL workload.
+            Software Engineer, Globex, 2016 - 2019
+            Built REST APIs for merchant onboarding and wrote the fraud rules engine.
+            Skills
+            Java, Spring Boot, Hibernate, MySQL, Kafka, Docker, Kubernetes, AWS
+            Education
+            BSc Computer Science, University of Texas, 2016
+            """;
+
+    @Test
+    void signsTheSameTextTheSameWay() {
+        ResumeSignature first = MinHash.sign(RESUME);
+        ResumeSignature second = MinHash.sign(RESUME);
+
+        assertEquals(MinHash.HASHES, first.minHashes().length);
+        assertArrayEquals(first.minHashes(), second.minHashes());
+        assertEquals(first.shingles(), second.shingles());
+        assertEquals(1.0, MinHash.similarity(first, second));
+    }
+
+    @Test
+    void ignoresCaseAndPunctuation() {
+        String reformatted = RESUME.toUpperCase(Locale.ROOT).replace(",", " ;").replace("\n", "  ").replace("|", "/");
+
+        assertArrayEquals(MinHash.sign(RESUME).minHashes(), MinHash.sign(reformatted).minHashes());
+    }
+
+    @Test
+    void countsDistinctShingles() {
+        assertEquals(3, MinHash.sign("one two three four five six").shingles());
+        assertEquals(4, MinHash.sign("a b c d a b c d").shingles());
+    }
+
+    @Test
+    void leavesTextTooShortToShingleEmpty() {
+        ResumeSignature tooShort = MinHash.sign("Jane Doe, Java");
+
+        assertTrue(tooShort.isEmpty());
+        assertTrue(MinHash.sign("").isEmpty());
+        assertEquals(0, MinHash.similarity(tooShort, tooShort));
+        assertEquals(0, MinHash.similarity(MinHash.sign(RESUME), tooShort));
+    }
+
+    @Test
+    void estimatesTheJaccardSimilarityOfTheShingles() {
+        String edited = RESUME.replace("+1 555 0100", "+1 555 0199")
+                .replace("Cut settlement batch time from four hours to twenty minutes", "Reduced settlement batch time by ninety percent");
+        String other = """
+                Raj Patel
+                raj.patel@example.com
+                Frontend developer focused on accessible React interfaces for healthcare portals.
+                Built a design system used by six product teams and mentored junior developers.
+                Skills: TypeScript, React, Redux, Jest, Figma
+                """;
+
+        for (String text : List.of(edited, other)) {
+            double exact = jaccard(shingles(RESUME), shingles(text));
+            double estimate = MinHash.similarity(MinHash.sign(RESUME), MinHash.sign(text));
+            // 128 hash functions estimate J with a standard error of at most 0.045
+            assertEquals(exact, estimate, 0.15, "for " + text.lines().findFirst().orElseThrow());
+        }
+    }
+
+    @Test
+    void sharesBandsOnlyWhereTheRowsAgree() {
+        long[] bands = MinHash.bandHashes(MinHash.sign(RESUME));
+        long[] again = MinHash.bandHashes(MinHash.sign(RESUME));
+        long[] unrelated = MinHash.bandHashes(MinHash.sign("Raj Patel frontend developer React TypeScript accessibility design systems"));
+
+        assertEquals(MinHash.BANDS, bands.length);
+        assertArrayEquals(bands, again);
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            assertNotEquals(bands[band], unrelated[band]);
+        }
+    }
+
+    @Test
+    void mixesTheBandNumberIntoItsHash() {
+        int[] sameRows = new int[MinHash.HASHES];
+        Arrays.fill(sameRows, 42);
+
+        long[] bands = MinHash.bandHashes(new ResumeSignature(sameRows, 1));
+
+        assertEquals(MinHash.BANDS, Arrays.stream(bands).distinct().count());
+    }
+
+    @Test
+    void changingOneRowChangesOnlyItsBand() {
+        int[] rows = MinHash.sign(RESUME).minHashes();
+        int[] changed = rows.clone();
+        changed[MinHash.ROWS * 5 + 2]++;
+
+        long[] before = MinHash.bandHashes(new ResumeSignature(rows, 1));
+        long[] after = MinHash.bandHashes(new ResumeSignature(changed, 1));
+
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            if (band == 5) {
+                assertNotEquals(before[band], after[band]);
+            } else {
+                assertEquals(before[band], after[band]);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsThroughItsStoredBytes() {
+        ResumeSignature signature = MinHash.sign(RESUME);
+
+        ResumeSignature stored = ResumeSignature.fromBytes(signature.toBytes(), signature.shingles());
+
+        assertArrayEquals(signature.minHashes(), stored.minHashes());
+        assertEquals(1.0, MinHash.similarity(signature, stored));
+    }
+
+    /**
+     * The shingles {@link MinHash#sign(String)} hashes, as strings.
+     */
+    static Set<String> shingles(String text) {
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        List<String> list = Arrays.stream(words).filter(word -> !word.isEmpty()).toList();
+        Set<String> shingles = new HashSet<>();
+        for (int start = 0; start + MinHash.SHINGLE_SIZE <= list.size(); start++) {
+            shingles.add(String.join(" ", list.subList(start, start + MinHash.SHINGLE_SIZE)));
+        }
+        return shingles;
+    }
+
+    static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> union = new HashSet<>(a);
+        union.addAll(b);
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / union.size();
+    }
+}
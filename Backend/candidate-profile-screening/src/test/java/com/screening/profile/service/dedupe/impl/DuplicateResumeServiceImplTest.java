@@ -0,0 +1,157 @@
+package com.screening.profile.service.dedupe.impl;
+
+import com.screening.profile.repository.CandidateRepository;
+import com.screening.profile.repository.JobApplicationRepository;
+import com.screening.profile.repository.ResumeFingerprintRepository;
+import com.screening.profile.service.dedupe.MinHash;
+import com.screening.profile.service.dedupe.ResumeSignature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DuplicateResumeServiceImplTest {
+
+    private static final Long JOB_ID = 7L;
+
+    private static final String JANE = """
+            Jane Doe
+            jane.doe@example.com | +1 555 0100 | Austin, TX
+            Professional Summary
+            Backend engineer with eight years of experience building payment and billing services in Java.
+            Work Experience
+            Senior Software Engineer, Acme Payments, 2019 - present
+            Led the migration of the ledger service from a monolith to Spring Boot microservices.
+            Cut settlement batch time from four hours to twenty minutes by partitioning the MySQL workload.
+            Software Engineer, Globex, 2016 - 2019
+            Built REST APIs for merchant onboarding and wrote the fraud rules engine.
+            Technical Skills
+            Java, Spring Boot, Hibernate, MySQL, Kafka, Docker, Kubernetes, AWS
+            Education
+            BSc Computer Science, University of Texas, 2016
+            References available upon request. I hereby declare that the information furnished above is true to the
+            best of my knowledge and belief.
+            """;
+
+    // Jane's resume sent again with a new phone number and one reworded bullet
+    private static final String JANE_AGAIN = JANE.replace("+1 555 0100", "+1 555 0142")
+            .replace("Cut settlement batch time from four hours to twenty minutes", "Reduced settlement batch time by ninety percent");
+
+    // Someone else who filled in the same template, headings and closing declaration included
+    private static final String JOHN = """
+            John Smith
+            john.smith@example.com | +1 555 0177 | Denver, CO
+            Professional Summary
+            Data engineer with five years of experience running analytics pipelines for retail chains.
+            Work Experience
+            Data Engineer, Initech Retail, 2020 - present
+            Designed the nightly Spark jobs that load point of sale data into the warehouse.
+            Moved reporting from cron scripts to Airflow and added data quality checks.
+            Analyst, Umbrella Stores, 2018 - 2020
+            Maintained sales dashboards and forecasting models in Python.
+            Technical Skills
+            Python, Spark, Airflow, SQL, Snowflake, dbt, AWS
+            Education
+            BSc Statistics, University of Colorado, 2018
+            References available upon request. I hereby declare that the information furnished above is true to the
+            best of my knowledge and belief.
+            """;
+
+    private final ResumeFingerprintRepository fingerprints = mock(ResumeFingerprintRepository.class);
+    private final CandidateRepository candidates = mock(CandidateRepository.class);
+
+    @Test
+    void flagsAnEditedCopyOfAnIndexedResume() {
+        stored(signature(1L, JANE));
+
+        assertTrue(service(false).isDuplicate(JANE_AGAIN, JOB_ID));
+        verify(fingerprints).findByJobAndBands(eq(JOB_ID), argThat(bands -> bands.size() == MinHash.BANDS));
+    }
+
+    @Test
+    void letsThroughADifferentResumeOnTheSameTemplate() {
+        stored(signature(1L, JANE));
+
+        assertTrue(MinHash.similarity(MinHash.sign(JANE), MinHash.sign(JOHN)) < 0.6);
+        assertFalse(service(false).isDuplicate(JOHN, JOB_ID));
+    }
+
+    @Test
+    void comparesAgainstTheConfiguredThreshold() {
+        stored(signature(1L, JANE));
+        double similarity = MinHash.similarity(MinHash.sign(JANE), MinHash.sign(JANE_AGAIN));
+
+        assertTrue(service(similarity, false).isDuplicate(JANE_AGAIN, JOB_ID));
+        assertFalse(service(Math.nextUp(similarity), false).isDuplicate(JANE_AGAIN, JOB_ID));
+    }
+
+    @Test
+    void neverProbesForAResumeTooShortToShingle() {
+        assertFalse(service(false).isDuplicate("Jane Doe", JOB_ID));
+        verifyNoInteractions(fingerprints);
+    }
+
+    @Test
+    void confirmsWithTheFuzzyRatioWhenAsked() {
+        stored(signature(1L, JANE));
+        when(candidates.findResumeTextById(1L)).thenReturn(JANE);
+
+        assertTrue(service(true).isDuplicate(JANE_AGAIN, JOB_ID));
+        verify(candidates).findResumeTextById(1L);
+    }
+
+    @Test
+    void dropsASignatureMatchTheFuzzyRatioDoesNotConfirm() {
+        stored(signature(1L, JANE));
+        when(candidates.findResumeTextById(anyLong())).thenReturn(JOHN);
+
+        assertFalse(service(true).isDuplicate(JANE_AGAIN, JOB_ID));
+    }
+
+    @Test
+    void skipsTheFuzzyRatioWhenNoSignatureIsCloseEnough() {
+        stored(signature(1L, JOHN));
+
+        assertFalse(service(true).isDuplicate(JANE, JOB_ID));
+        verifyNoInteractions(candidates);
+    }
+
+    private DuplicateResumeServiceImpl service(boolean fuzzyConfirm) {
+        return service(0.6, fuzzyConfirm);
+    }
+
+    private DuplicateResumeServiceImpl service(double threshold, boolean fuzzyConfirm) {
+        return new DuplicateResumeServiceImpl(fingerprints, candidates, mock(JobApplicationRepository.class),
+                new SimpleMeterRegistry(), "lsh", threshold, fuzzyConfirm);
+    }
+
+    private void stored(ResumeFingerprintRepository.Signature... signatures) {
+        when(fingerprints.findByJobAndBands(eq(JOB_ID), any())).thenReturn(List.of(signatures));
+    }
+
+    private static ResumeFingerprintRepository.Signature signature(Long candidateId, String resumeText) {
+        ResumeSignature signature = MinHash.sign(resumeText);
+        return new ResumeFingerprintRepository.Signature() {
+            @Override
+            public Long getCandidateId() {
+                return candidateId;
+            }
+
+            @Override
+            public byte[] getSignature() {
+                return signature.toBytes();
+            }
+
+            @Override
+            public int getShingles() {
+                return signature.shingles();
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.screening.profile.service.screening;
+
+import com.screening.profile.loadtest.SyntheticResumes;
+import com.screening.profile.service.screening.parser.ParsedResume.Truncation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfExtractorTest {
+
+    private static final int PAGES = 20;
+    private static final long SEED = 21;
+
+    private static byte[] pdf;
+
+    private final List<PdfExtractor> extractors = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void generate() throws Exception {
+        pdf = SyntheticResumes.generate(SEED, PAGES).pdf();
+    }
+
+    @AfterEach
+    void shutdown() {
+        extractors.forEach(PdfExtractor::shutdown);
+    }
+
+    @Test
+    void parallelRangesGiveTheSameTextAsOnePass() throws Exception {
+        PdfExtractor.Extraction sequential = sequential(30, 60_000).extract(pdf);
+        PdfExtractor.Extraction parallel = parallel(30, 60_000).extract(pdf);
+
+        assertEquals(PAGES, sequential.pageCount());
+        assertEquals(PAGES, sequential.pagesParsed());
+        assertFalse(sequential.isPartial());
+        assertEquals(sequential, parallel);
+        for (String line : SyntheticResumes.text(SEED, PAGES).split("\n")) {
+            assertTrue(parallel.text().contains(line.strip()), line);
+        }
+    }
+
+    @Test
+    void readsAFileLikeTheBytes(@TempDir Path directory) throws Exception {
+        Path file = Files.write(directory.resolve("resume.pdf"), pdf);
+
+        assertEquals(parallel(30, 60_000).extract(pdf), parallel(30, 60_000).extract(file));
+    }
+
+    @Test
+    void stopsAtThePageLimit() throws Exception {
+        PdfExtractor.Extraction sequential = sequential(5, 60_000).extract(pdf);
+        PdfExtractor.Extraction parallel = parallel(5, 60_000).extract(pdf);
+
+        assertEquals(Truncation.PAGE_LIMIT, sequential.truncation());
+        assertEquals(PAGES, sequential.pageCount());
+        assertEquals(5, sequential.pagesParsed());
+        assertEquals(sequential, parallel);
+        assertEquals(2, meterRegistry.counter("resume.extraction.truncated", "reason", "page-limit").count());
+    }
+
+    @Test
+    void keepsThePagesFinishedBeforeTheTimeBudgetRunsOut() throws Exception {
+        String full = sequential(30, 60_000).extract(pdf).text();
+
+        for (PdfExtractor extractor : List.of(sequential(30, 0), parallel(30, 0))) {
+            PdfExtractor.Extraction partial = extractor.extract(pdf);
+
+            assertEquals(Truncation.TIME_LIMIT, partial.truncation());
+            assertEquals(PAGES, partial.pageCount());
+            assertTrue(partial.pagesParsed() < PAGES);
+            assertTrue(full.startsWith(partial.text()));
+        }
+        assertEquals(2, meterRegistry.counter("resume.extraction.truncated", "reason", "time-limit").count());
+    }
+
+    private PdfExtractor sequential(int maxPages, long timeBudgetMs) {
+        return extractor(maxPages, timeBudgetMs, 0, 1);
+    }
+
+    private PdfExtractor parallel(int maxPages, long timeBudgetMs) {
+        // Ranges of at most three pages, split unevenly by the halving
+        return extractor(maxPages, timeBudgetMs, 4, 4);
+    }
+
+    private PdfExtractor extractor(int maxPages, long timeBudgetMs, int pageThreshold, int threads) {
+        PdfExtractor extractor = new PdfExtractor(meterRegistry, DataSize.ofMegabytes(16), maxPages, timeBudgetMs,
+                pageThreshold, 3, threads);
+        extractors.add(extractor);
+        return extractor;
+    }
+}